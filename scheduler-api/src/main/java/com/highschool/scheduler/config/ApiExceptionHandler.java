@@ -1,6 +1,8 @@
 package com.highschool.scheduler.config;
 
+import com.highschool.scheduler.service.JobQueueFullException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ControllerAdvice;
@@ -13,6 +15,9 @@ import java.util.NoSuchElementException;
 @ControllerAdvice
 public class ApiExceptionHandler {
 
+    /** Seconds a client is asked to wait before retrying when the server is busy. */
+    static final int RETRY_AFTER_SECONDS = 10;
+
     @ExceptionHandler(IllegalStateException.class)
     public ResponseEntity<Map<String, String>> handleIllegalState(IllegalStateException ex) {
         log.warn("IllegalStateException: {}", ex.getMessage());
@@ -25,6 +30,14 @@ public class ApiExceptionHandler {
         return ResponseEntity.badRequest().body(Map.of("error", ex.getMessage()));
     }
 
+    @ExceptionHandler(JobQueueFullException.class)
+    public ResponseEntity<Map<String, String>> handleJobQueueFull(JobQueueFullException ex) {
+        log.warn("Job queue full: {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(RETRY_AFTER_SECONDS))
+                .body(Map.of("error", ex.getMessage()));
+    }
+
     @ExceptionHandler(NoSuchElementException.class)
     public ResponseEntity<Map<String, String>> handleNotFound(NoSuchElementException ex) {
         log.info("Not found: {}", ex.getMessage());
@@ -0,0 +1,72 @@
+package com.highschool.scheduler.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostLoadEventListener;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import javax.sql.DataSource;
+
+/**
+ * Per-request SQL instrumentation: counts the statements and entity loads of every controller
+ * call and publishes them through {@link RequestStatisticsInterceptor}, so that an N+1 query
+ * shows up as a jump in {@code scheduler.requests.sql.statements} for its endpoint.
+ * <p>
+ * Statements are reported by {@link StatementRecordingListener} on a proxy around the
+ * application's {@code dataSource} bean, so Hibernate queries and {@code JdbcTemplate} batches
+ * are counted alike; entity loads by a post-load listener registered here.
+ */
+@Configuration
+public class QueryStatisticsConfig {
+
+    /**
+     * @param statementBudget statements a single request may run before it is logged
+     */
+    @Bean
+    public WebMvcConfigurer requestStatisticsConfigurer(MeterRegistry registry,
+                                                        @Value("${scheduler.instrumentation.statement-budget:25}") int statementBudget) {
+        return new WebMvcConfigurer() {
+            @Override
+            public void addInterceptors(InterceptorRegistry interceptors) {
+                interceptors.addInterceptor(new RequestStatisticsInterceptor(registry, statementBudget))
+                        .addPathPatterns("/api/**");
+            }
+        };
+    }
+
+    /**
+     * Wraps the {@code dataSource} bean only; with the {@code sqlite-wal} profile that is the
+     * routing proxy in front of both pools, so no statement is counted twice.
+     */
+    @Bean
+    public static BeanPostProcessor statementRecordingDataSource() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!"dataSource".equals(beanName) || !(bean instanceof DataSource dataSource)) return bean;
+                return ProxyDataSourceBuilder.create(beanName, dataSource)
+                        .listener(new StatementRecordingListener())
+                        .build();
+            }
+        };
+    }
+
+    @Bean
+    public PostLoadEventListener entityLoadRecorder(EntityManagerFactory entityManagerFactory) {
+        PostLoadEventListener listener = event -> RequestStatistics.entityLoaded();
+        entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry()
+                .requireService(EventListenerRegistry.class)
+                .appendListeners(EventType.POST_LOAD, listener);
+        return listener;
+    }
+}
@@ -0,0 +1,59 @@
+package com.highschool.scheduler.config;
+
+/**
+ * SQL work done on the current thread while a request is being handled: statements executed,
+ * their total execution time and entities loaded.
+ * <p>
+ * {@link RequestStatisticsInterceptor} starts and stops the recording around each handler call;
+ * statements are reported by {@link StatementRecordingListener} on the {@code DataSource} and entity
+ * loads by the post-load listener registered by {@link QueryStatisticsConfig}. Work outside a request,
+ * or handed off to another thread such as background schedule generation, is not recorded.
+ */
+public final class RequestStatistics {
+
+    private static final ThreadLocal<RequestStatistics> CURRENT = new ThreadLocal<>();
+
+    private int statements;
+    private long statementNanos;
+    private int entityLoads;
+
+    private RequestStatistics() {
+    }
+
+    static void start() {
+        CURRENT.set(new RequestStatistics());
+    }
+
+    /**
+     * @return what was recorded since {@link #start()}, or {@code null} if nothing was started
+     */
+    static RequestStatistics stop() {
+        RequestStatistics stats = CURRENT.get();
+        CURRENT.remove();
+        return stats;
+    }
+
+    static void statementExecuted(long nanos) {
+        RequestStatistics stats = CURRENT.get();
+        if (stats == null) return;
+        stats.statements++;
+        stats.statementNanos += nanos;
+    }
+
+    static void entityLoaded() {
+        RequestStatistics stats = CURRENT.get();
+        if (stats != null) stats.entityLoads++;
+    }
+
+    public int statements() {
+        return statements;
+    }
+
+    public long statementNanos() {
+        return statementNanos;
+    }
+
+    public int entityLoads() {
+        return entityLoads;
+    }
+}
@@ -0,0 +1,88 @@
+package com.highschool.scheduler.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records the {@link RequestStatistics} of every controller call as Micrometer metrics tagged
+ * with the handler ({@code EnrollmentController.getEligibleSections}), and logs calls that run
+ * more SQL statements than the budget.
+ * <p>
+ * Meters: {@code scheduler.requests.sql.statements} and {@code scheduler.requests.entity.loads}
+ * (distribution summaries), {@code scheduler.requests.sql.time} (total statement execution time
+ * per call) and {@code scheduler.requests.over.budget} (counter). For an asynchronous request,
+ * each dispatch is recorded on its own.
+ */
+@Slf4j
+public class RequestStatisticsInterceptor implements AsyncHandlerInterceptor {
+
+    private final MeterRegistry registry;
+    private final int statementBudget;
+
+    public RequestStatisticsInterceptor(MeterRegistry registry, int statementBudget) {
+        this.registry = registry;
+        this.statementBudget = statementBudget;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (handler instanceof HandlerMethod) RequestStatistics.start();
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        record(request, handler);
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response,
+                                               Object handler) {
+        record(request, handler);
+    }
+
+    private void record(HttpServletRequest request, Object handler) {
+        RequestStatistics stats = RequestStatistics.stop();
+        if (stats == null || !(handler instanceof HandlerMethod method)) return;
+
+        String name = method.getBeanType().getSimpleName() + "." + method.getMethod().getName();
+        Tags tags = Tags.of("handler", name);
+        DistributionSummary.builder("scheduler.requests.sql.statements")
+                .description("SQL statements executed per request")
+                .tags(tags)
+                .register(registry)
+                .record(stats.statements());
+        DistributionSummary.builder("scheduler.requests.entity.loads")
+                .description("Entities loaded from the database per request")
+                .tags(tags)
+                .register(registry)
+                .record(stats.entityLoads());
+        Timer.builder("scheduler.requests.sql.time")
+                .description("Total SQL statement execution time per request")
+                .tags(tags)
+                .register(registry)
+                .record(stats.statementNanos(), TimeUnit.NANOSECONDS);
+
+        if (stats.statements() > statementBudget) {
+            Counter.builder("scheduler.requests.over.budget")
+                    .description("Requests that executed more SQL statements than the budget")
+                    .tags(tags)
+                    .register(registry)
+                    .increment();
+            log.warn("{} {} ({}) executed {} SQL statements, budget is {}; {} entities loaded, {} ms in SQL",
+                    request.getMethod(), request.getRequestURI(), name, stats.statements(), statementBudget,
+                    stats.entityLoads(), TimeUnit.NANOSECONDS.toMillis(stats.statementNanos()));
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.highschool.scheduler.config;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.sqlite.SQLiteConfig;
+import org.sqlite.SQLiteDataSource;
+
+import javax.sql.DataSource;
+
+/**
+ * Production persistence ({@code sqlite-wal} profile): SQLite in WAL mode behind two pools.
+ * <p>
+ * All writes go through a single writer connection, as SQLite allows only one writer at a
+ * time. Transactions marked {@code @Transactional(readOnly = true)} run on a separate pool of
+ * read-only connections instead; in WAL mode they read the last committed state without waiting
+ * for the writer, so dashboard reads proceed while a schedule is generated or students enroll.
+ * <p>
+ * The application's {@link DataSource} is a {@link LazyConnectionDataSourceProxy}: it fetches a
+ * physical connection only at the first statement, by which time the transaction manager has
+ * marked the connection read-only or not, and picks the pool from that.
+ */
+@Configuration
+@Profile("sqlite-wal")
+public class SqliteWalDataSourceConfig {
+
+    @Value("${spring.datasource.url}")
+    private String url;
+
+    @Value("${scheduler.sqlite.reader-pool-size:4}")
+    private int readerPoolSize;
+
+    @Value("${scheduler.sqlite.busy-timeout-ms:5000}")
+    private int busyTimeoutMs;
+
+    @Value("${scheduler.sqlite.cache-size-kib:16384}")
+    private int cacheSizeKib;
+
+    @Value("${scheduler.sqlite.mmap-size-bytes:268435456}")
+    private long mmapSizeBytes;
+
+    @Bean(destroyMethod = "close")
+    public HikariDataSource sqliteWriterDataSource() {
+        SQLiteConfig config = sqliteConfig();
+        // Persistent in the database file; set by the writer, which is opened first
+        config.setJournalMode(SQLiteConfig.JournalMode.WAL);
+        return pool("sqlite-writer", config, 1, false);
+    }
+
+    /**
+     * @param writer opened first, so the database is in WAL mode before any reader connects
+     */
+    @Bean(destroyMethod = "close")
+    public HikariDataSource sqliteReaderDataSource(@Qualifier("sqliteWriterDataSource") DataSource writer) {
+        SQLiteConfig config = sqliteConfig();
+        config.setReadOnly(true);
+        return pool("sqlite-reader", config, readerPoolSize, true);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("sqliteWriterDataSource") DataSource writer,
+                                 @Qualifier("sqliteReaderDataSource") DataSource readers) {
+        LazyConnectionDataSourceProxy proxy = new LazyConnectionDataSourceProxy(writer);
+        proxy.setReadOnlyDataSource(readers);
+        return proxy;
+    }
+
+    /**
+     * Settings shared by both pools. {@code synchronous=NORMAL} is durable across application
+     * crashes in WAL mode; only an OS crash or power loss can drop the last commits.
+     */
+    private SQLiteConfig sqliteConfig() {
+        SQLiteConfig config = new SQLiteConfig();
+        config.setSynchronous(SQLiteConfig.SynchronousMode.NORMAL);
+        config.setBusyTimeout(busyTimeoutMs);
+        config.setCacheSize(-cacheSizeKib);
+        config.setPragma(SQLiteConfig.Pragma.MMAP_SIZE, String.valueOf(mmapSizeBytes));
+        config.setTempStore(SQLiteConfig.TempStore.MEMORY);
+        return config;
+    }
+
+    private HikariDataSource pool(String name, SQLiteConfig config, int size, boolean readOnly) {
+        SQLiteDataSource sqlite = new SQLiteDataSource(config);
+        sqlite.setUrl(url);
+
+        HikariConfig hikari = new HikariConfig();
+        hikari.setPoolName(name);
+        hikari.setDataSource(sqlite);
+        hikari.setMaximumPoolSize(size);
+        hikari.setMinimumIdle(1);
+        hikari.setReadOnly(readOnly);
+        return new HikariDataSource(hikari);
+    }
+}
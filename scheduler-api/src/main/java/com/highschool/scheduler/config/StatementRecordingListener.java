@@ -0,0 +1,29 @@
+package com.highschool.scheduler.config;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+
+import java.util.List;
+
+/**
+ * Reports each JDBC statement executed through the application's {@code DataSource}, and how
+ * long it took, to the {@link RequestStatistics} of the current request. Sitting below both
+ * Hibernate and {@code JdbcTemplate}, it sees every statement either of them runs. A JDBC batch
+ * counts as one statement.
+ */
+public class StatementRecordingListener implements QueryExecutionListener {
+
+    private static final String START = StatementRecordingListener.class.getName() + ".start";
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        execInfo.addCustomValue(START, System.nanoTime());
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        Long start = execInfo.getCustomValue(START, Long.class);
+        RequestStatistics.statementExecuted(start == null ? 0 : System.nanoTime() - start);
+    }
+}
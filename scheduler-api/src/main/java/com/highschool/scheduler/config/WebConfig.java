@@ -17,6 +17,7 @@ public class WebConfig {
                         .allowedOrigins("http://localhost:4200") // frontend origin
                         .allowedMethods("GET", "POST", "PUT", "DELETE", "OPTIONS")
                         .allowedHeaders("*")
+                        .exposedHeaders("Location", "X-Schedule-Seed")
                         .allowCredentials(true);
             }
         };
@@ -2,7 +2,9 @@ package com.highschool.scheduler.controller;
 
 import com.highschool.scheduler.dto.*;
 import com.highschool.scheduler.model.StudentSectionEnrollment;
+import com.highschool.scheduler.service.BulkEnrollmentService;
 import com.highschool.scheduler.service.EnrollmentService;
+import com.highschool.scheduler.service.StudentProgressService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.web.bind.annotation.*;
@@ -21,6 +23,8 @@ import java.util.Map;
 public class EnrollmentController {
 
     private final EnrollmentService enrollmentService;
+    private final BulkEnrollmentService bulkEnrollmentService;
+    private final StudentProgressService progressService;
 
     /**
      * Retrieves the current schedule for a given student.
@@ -38,12 +42,24 @@ public class EnrollmentController {
      * Retrieves the academic progress information for a given student.
      *
      * @param studentId the ID of the student
-     * @return a map containing progress data for the student
+     * @return the student's {@link StudentProgressDTO}
      */
     @GetMapping("/{studentId}/progress")
-    public Map<String, Object> progress(@PathVariable Long studentId) {
+    public StudentProgressDTO progress(@PathVariable Long studentId) {
         log.debug("Fetching progress for student {}", studentId);
-        return enrollmentService.getProgress(studentId);
+        return progressService.get(studentId);
+    }
+
+    /**
+     * Retrieves the academic progress of every student in a grade level, read with one query.
+     *
+     * @param gradeLevel the grade level, e.g. 9
+     * @return one {@link StudentProgressDTO} per student, ordered by student ID
+     */
+    @GetMapping("/progress")
+    public List<StudentProgressDTO> progressForGradeLevel(@RequestParam int gradeLevel) {
+        log.debug("Fetching progress for grade level {}", gradeLevel);
+        return progressService.forGradeLevel(gradeLevel);
     }
 
     /**
@@ -100,6 +116,18 @@ public class EnrollmentController {
         return enrollmentService.getEligibleDatesForSection(sectionId);
     }
 
+    /**
+     * Retrieves the eligible enrollment dates of several course sections in one request.
+     *
+     * @param sectionIds the IDs of the course sections
+     * @return eligible {@link LocalDate}s per section ID; unknown sections are left out
+     */
+    @GetMapping("/course-sections/eligible-dates")
+    public Map<Long, List<LocalDate>> getEligibleDatesForCourseSections(@RequestParam List<Long> sectionIds) {
+        log.debug("Fetching eligible dates for {} course sections", sectionIds.size());
+        return enrollmentService.getEligibleDatesForSections(sectionIds);
+    }
+
     /**
      * Enrolls a student in a course section on a specific date.
      *
@@ -113,6 +141,19 @@ public class EnrollmentController {
         return enrollmentService.enroll(req.studentId(), req.sectionId(), req.enrolledDate());
     }
 
+    /**
+     * Enrolls many students in course sections in one call. Each row is checked against the
+     * same rules as a single enrollment; rejected rows are reported and do not stop the rest.
+     *
+     * @param requests the (student, section, date) rows to enroll
+     * @return a {@link BulkEnrollmentReport} with one accept/reject result per row
+     */
+    @PostMapping("/enrollments/batch")
+    public BulkEnrollmentReport enrollBatch(@RequestBody List<EnrollmentRequestDTO> requests) {
+        log.info("Bulk enrolling {} rows", requests.size());
+        return bulkEnrollmentService.enrollAll(requests);
+    }
+
     /**
      * Retrieves the complete academic history for a student.
      *
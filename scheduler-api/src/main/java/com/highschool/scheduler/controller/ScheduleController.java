@@ -1,12 +1,19 @@
 package com.highschool.scheduler.controller;
 
+import com.highschool.scheduler.dto.GeneratedSchedule;
+import com.highschool.scheduler.dto.GenerationOptions;
 import com.highschool.scheduler.dto.ScheduleEventDTO;
+import com.highschool.scheduler.dto.ScheduleJobDTO;
 import com.highschool.scheduler.service.ScheduleGeneratorService;
+import com.highschool.scheduler.service.ScheduleJobService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.net.URI;
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
 
@@ -20,23 +27,91 @@ import java.util.Map;
 @RequestMapping("/api/schedule")
 public class ScheduleController {
 
+    static final String SEED_HEADER = "X-Schedule-Seed";
+
     private static final String RESET_SCHEDULE_SUCCESS_MESSAGE =
             "All course sections and related enrollments deleted successfully.";
 
     private final ScheduleGeneratorService scheduleGeneratorService;
+    private final ScheduleJobService scheduleJobService;
 
     /**
      * Generates a new master schedule for the active semester.
      * Existing sections and enrollments for the active semester are deleted and replaced.
      *
-     * @return a list of {@link ScheduleEventDTO} representing the newly generated schedule events.
+     * @param parallel       whether to schedule each room type on its own worker thread
+     * @param attempts       number of independent greedy attempts to run, at most
+     *                       {@value GenerationOptions#MAX_ATTEMPTS}; the best-scoring one is saved
+     * @param optimizeMillis time in milliseconds to spend optimizing the generated schedule; 0 skips it
+     * @param seed           seed for the generator's random tie-breaks; a fresh one is drawn if omitted
+     * @return a list of {@link ScheduleEventDTO} representing the newly generated schedule events,
+     * with the seed used in the {@value #SEED_HEADER} header.
      */
     @PostMapping("/generate")
-    public List<ScheduleEventDTO> generateSchedule() {
-        log.info("Generating master schedule for active semester...");
-        List<ScheduleEventDTO> result = scheduleGeneratorService.generateForActiveSemester();
-        log.info("Generated {} schedule events.", result.size());
-        return result;
+    public ResponseEntity<List<ScheduleEventDTO>> generateSchedule(@RequestParam(defaultValue = "false") boolean parallel,
+                                                                   @RequestParam(defaultValue = "1") int attempts,
+                                                                   @RequestParam(defaultValue = "0") long optimizeMillis,
+                                                                   @RequestParam(required = false) Long seed) {
+        log.info("Generating master schedule for active semester (parallel={}, attempts={}, optimizeMillis={}, seed={})...",
+                parallel, attempts, optimizeMillis, seed);
+        GeneratedSchedule result = scheduleGeneratorService.generateForActiveSemester(
+                new GenerationOptions(parallel, attempts, Duration.ofMillis(optimizeMillis), seed));
+        log.info("Generated {} schedule events with seed {}.", result.events().size(), result.seed());
+        return ResponseEntity.ok()
+                .header(SEED_HEADER, Long.toString(result.seed()))
+                .body(result.events());
+    }
+
+    /**
+     * Starts generating a new master schedule in the background and returns at once.
+     * Takes the same options as {@code POST /generate}; the schedule is saved when the job succeeds.
+     *
+     * @return 202 Accepted with the job's initial {@link ScheduleJobDTO} and its URL in the Location header.
+     */
+    @PostMapping("/jobs")
+    public ResponseEntity<ScheduleJobDTO> submitGenerationJob(@RequestParam(defaultValue = "false") boolean parallel,
+                                                              @RequestParam(defaultValue = "1") int attempts,
+                                                              @RequestParam(defaultValue = "0") long optimizeMillis,
+                                                              @RequestParam(required = false) Long seed) {
+        ScheduleJobDTO job = scheduleJobService.submit(
+                new GenerationOptions(parallel, attempts, Duration.ofMillis(optimizeMillis), seed));
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/schedule/jobs/" + job.id()))
+                .body(job);
+    }
+
+    /**
+     * Retrieves the progress of a generation job.
+     *
+     * @param id the job ID
+     * @return the job's current {@link ScheduleJobDTO}.
+     */
+    @GetMapping("/jobs/{id}")
+    public ScheduleJobDTO getGenerationJob(@PathVariable String id) {
+        return scheduleJobService.status(id);
+    }
+
+    /**
+     * Streams the progress of a generation job as server-sent {@code progress} events until it finishes.
+     *
+     * @param id the job ID
+     * @return an {@link SseEmitter} sending {@link ScheduleJobDTO} snapshots.
+     */
+    @GetMapping(value = "/jobs/{id}/events", produces = "text/event-stream")
+    public SseEmitter streamGenerationJob(@PathVariable String id) {
+        return scheduleJobService.stream(id);
+    }
+
+    /**
+     * Cancels a generation job that has not started saving yet.
+     *
+     * @param id the job ID
+     * @return the job's {@link ScheduleJobDTO} after the request.
+     */
+    @DeleteMapping("/jobs/{id}")
+    public ScheduleJobDTO cancelGenerationJob(@PathVariable String id) {
+        log.info("Cancelling schedule generation job {}", id);
+        return scheduleJobService.cancel(id);
     }
 
     /**
@@ -0,0 +1,13 @@
+package com.highschool.scheduler.dto;
+
+import java.util.List;
+
+/**
+ * Per-row report of a bulk enrollment request.
+ *
+ * @param accepted the number of enrollments saved
+ * @param rejected the number of rows rejected
+ * @param results  one result per request row, in request order
+ */
+public record BulkEnrollmentReport(int accepted, int rejected, List<BulkEnrollmentResult> results) {
+}
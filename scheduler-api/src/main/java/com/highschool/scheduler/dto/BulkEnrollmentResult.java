@@ -0,0 +1,23 @@
+package com.highschool.scheduler.dto;
+
+import java.time.LocalDate;
+
+/**
+ * Outcome of one row of a bulk enrollment request.
+ *
+ * @param row          the row's position in the request, starting at 0
+ * @param studentId    the requested student
+ * @param sectionId    the requested course section
+ * @param enrolledDate the requested enrollment date
+ * @param accepted     whether the enrollment was saved
+ * @param error        why the row was rejected, or {@code null} if it was accepted
+ */
+public record BulkEnrollmentResult(
+        int row,
+        Long studentId,
+        Long sectionId,
+        LocalDate enrolledDate,
+        boolean accepted,
+        String error
+) {
+}
@@ -0,0 +1,20 @@
+package com.highschool.scheduler.dto;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+
+/**
+ * One row of the eligible-sections query: a section of the active semester the student may take.
+ */
+public record EligibleSectionRow(
+        Long sectionId,
+        Long courseId,
+        String courseName,
+        String teacherFirstName,
+        String teacherLastName,
+        String roomName,
+        DayOfWeek dayOfWeek,
+        LocalTime startTime,
+        LocalTime endTime,
+        String courseType
+) {}
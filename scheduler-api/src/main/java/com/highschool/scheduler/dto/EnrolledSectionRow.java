@@ -0,0 +1,21 @@
+package com.highschool.scheduler.dto;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+/**
+ * One enrollment of a student joined with what its section shows on the timetable.
+ */
+public record EnrolledSectionRow(
+        Long sectionId,
+        DayOfWeek dayOfWeek,
+        LocalTime startTime,
+        LocalTime endTime,
+        String courseCode,
+        String courseName,
+        String teacherFirstName,
+        String teacherLastName,
+        String roomName,
+        LocalDate enrolledDate
+) {}
@@ -0,0 +1,21 @@
+package com.highschool.scheduler.dto;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+/**
+ * An existing enrollment flattened to what bulk validation needs: who, which section and
+ * semester, and when the section meets.
+ */
+public record EnrolledSlot(
+        Long studentId,
+        Long sectionId,
+        Long semesterId,
+        LocalDate enrolledDate,
+        DayOfWeek dayOfWeek,
+        LocalTime startTime,
+        LocalTime endTime,
+        String courseName
+) {
+}
@@ -0,0 +1,12 @@
+package com.highschool.scheduler.dto;
+
+import java.util.List;
+
+/**
+ * Result of a schedule generation run.
+ *
+ * @param seed   the seed the run's random tie-breaks were drawn from; passing it back reproduces the run
+ * @param events the generated schedule events
+ */
+public record GeneratedSchedule(long seed, List<ScheduleEventDTO> events) {
+}
@@ -0,0 +1,30 @@
+package com.highschool.scheduler.dto;
+
+import java.time.Duration;
+
+/**
+ * Options for a schedule generation run.
+ *
+ * @param parallel       whether to schedule each room type on its own worker thread
+ * @param attempts       number of independent seeded greedy attempts, at most {@value #MAX_ATTEMPTS}; the best one is kept
+ * @param optimizeBudget time to spend improving the greedy schedule; zero skips the optimizer
+ * @param seed           seed for every random tie-break, or {@code null} to draw a fresh one
+ */
+public record GenerationOptions(boolean parallel, int attempts, Duration optimizeBudget, Long seed) {
+
+    public static final int MAX_ATTEMPTS = 64;
+
+    public static final GenerationOptions DEFAULT = new GenerationOptions(false, 1, Duration.ZERO, null);
+
+    public GenerationOptions {
+        if (attempts < 1) {
+            throw new IllegalArgumentException("attempts must be at least 1");
+        }
+        if (attempts > MAX_ATTEMPTS) {
+            throw new IllegalArgumentException("attempts must be at most " + MAX_ATTEMPTS);
+        }
+        if (optimizeBudget == null || optimizeBudget.isNegative()) {
+            throw new IllegalArgumentException("optimizeBudget must be zero or positive");
+        }
+    }
+}
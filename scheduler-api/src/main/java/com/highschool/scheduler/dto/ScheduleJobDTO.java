@@ -0,0 +1,29 @@
+package com.highschool.scheduler.dto;
+
+/**
+ * Snapshot of an asynchronous schedule generation job.
+ *
+ * @param id            the job's ID
+ * @param status        QUEUED, RUNNING, SUCCEEDED, FAILED or CANCELLED
+ * @param phase         the generator's current stage (PENDING, GENERATING, OPTIMIZING, SAVING, DONE)
+ * @param coursesPlaced courses whose placement has finished, summed over every attempt
+ * @param totalCourses  course placements the job will make, summed over every attempt
+ * @param unplacedHours course hours not placed so far
+ * @param score         current objective value of the schedule (lower is better), or null before there is one
+ * @param seed          seed of the run, once it has finished
+ * @param sectionCount  number of sections saved, once it has succeeded
+ * @param error         failure message, if it failed
+ */
+public record ScheduleJobDTO(
+        String id,
+        String status,
+        String phase,
+        int coursesPlaced,
+        int totalCourses,
+        int unplacedHours,
+        Double score,
+        Long seed,
+        Integer sectionCount,
+        String error
+) {
+}
@@ -0,0 +1,22 @@
+package com.highschool.scheduler.dto;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+
+/**
+ * One section of the generated schedule with the course, teacher and room columns the schedule
+ * and utilization views read.
+ */
+public record ScheduledSectionRow(
+        Long sectionId,
+        DayOfWeek dayOfWeek,
+        LocalTime startTime,
+        LocalTime endTime,
+        String courseCode,
+        String courseName,
+        Long teacherId,
+        String teacherFirstName,
+        String teacherLastName,
+        Long roomId,
+        String roomName
+) {}
@@ -0,0 +1,10 @@
+package com.highschool.scheduler.dto;
+
+import java.time.LocalDate;
+
+/**
+ * Number of students enrolled in a section on one date, together with the section's room capacity.
+ * The date is null, and the count zero, for a section nobody has enrolled in.
+ */
+public record SectionDateCount(Long sectionId, LocalDate date, int capacity, long enrolled) {
+}
@@ -1,14 +1,19 @@
 package com.highschool.scheduler.dto;
 
+/**
+ * A student's academic progress: GPA, credits towards graduation and this semester's load.
+ */
 public record StudentProgressDTO(
+        Long studentId,
+        String studentName,
+        String email,
+        int gradeLevel,
         double gpa,
-        int creditsEarned,
+        double creditsEarned,
         int creditsRequired,
-        int creditsRemaining,
+        double creditsRemaining,
+        double completionPercentage,
         int plannedThisSemester,
-        boolean maxCoursesReached,
-        long coreCoursesCompleted,
-        long electiveCoursesCompleted,
-        double completionPercentage
+        boolean maxCoursesReached
 ) {
 }
@@ -0,0 +1,17 @@
+package com.highschool.scheduler.dto;
+
+/**
+ * One row of the student-progress query: a student with their history and enrollments
+ * already aggregated by the database.
+ */
+public record StudentProgressRow(
+        Long studentId,
+        String firstName,
+        String lastName,
+        String email,
+        int gradeLevel,
+        double creditsEarned,
+        long coursesPassed,
+        long coursesGraded,
+        long enrollments
+) {}
@@ -6,12 +6,15 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
 import jakarta.persistence.Table;
 import lombok.Getter;
 import lombok.Setter;
 
 @Setter
 @Getter
+@NamedEntityGraph(name = "Classroom.roomType", attributeNodes = @NamedAttributeNode("roomType"))
 @Entity
 @Table(name = "classrooms")
 public class Classroom {
@@ -28,7 +31,7 @@ public class Classroom {
     @Column(name = "equipment")
     private String equipment;
 
-    @ManyToOne(fetch = FetchType.EAGER)
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "room_type_id")
     private RoomType roomType;
 
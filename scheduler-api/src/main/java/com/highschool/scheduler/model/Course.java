@@ -6,12 +6,18 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
+import jakarta.persistence.NamedSubgraph;
 import jakarta.persistence.Table;
 import lombok.Getter;
 import lombok.Setter;
 
 @Setter
 @Getter
+@NamedEntityGraph(name = "Course.specialization",
+        attributeNodes = @NamedAttributeNode(value = "specialization", subgraph = "roomType"),
+        subgraphs = @NamedSubgraph(name = "roomType", attributeNodes = @NamedAttributeNode("roomType")))
 @Entity
 @Table(name = "courses")
 public class Course {
@@ -32,12 +38,12 @@ public class Course {
     private int hoursPerWeek;
 
     // Prerequisite (self-join)
-    @ManyToOne(fetch = FetchType.EAGER)
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "prerequisite_id")
     private Course prerequisite;
 
     // Linked specialization
-    @ManyToOne(fetch = FetchType.EAGER)
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "specialization_id")
     private Specialization specialization;
 
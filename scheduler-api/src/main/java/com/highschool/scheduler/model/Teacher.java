@@ -6,6 +6,9 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
+import jakarta.persistence.NamedSubgraph;
 import jakarta.persistence.Table;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -14,6 +17,9 @@ import lombok.Setter;
 @Getter
 @Setter
 @NoArgsConstructor
+@NamedEntityGraph(name = "Teacher.specialization",
+        attributeNodes = @NamedAttributeNode(value = "specialization", subgraph = "roomType"),
+        subgraphs = @NamedSubgraph(name = "roomType", attributeNodes = @NamedAttributeNode("roomType")))
 @Entity
 @Table(name = "teachers")
 public class Teacher {
@@ -31,7 +37,7 @@ public class Teacher {
     private String email;
 
     // Relation to specialization (many teachers → one specialization)
-    @ManyToOne(fetch = FetchType.EAGER)
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "specialization_id")
     private Specialization specialization;
 }
@@ -1,8 +1,17 @@
 package com.highschool.scheduler.repository;
 
 import com.highschool.scheduler.model.Classroom;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.List;
+
 public interface ClassroomRepository extends JpaRepository<Classroom, Long> {
+    /**
+     * Loads every classroom with its room type.
+     */
+    @Override
+    @EntityGraph("Classroom.roomType")
+    List<Classroom> findAll();
 }
 
@@ -1,11 +1,20 @@
 package com.highschool.scheduler.repository;
 
 import com.highschool.scheduler.model.Course;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 import java.util.List;
 
 public interface CourseRepository extends JpaRepository<Course, Long> {
+    /**
+     * Loads every course with its specialization and room type. Prerequisites stay lazy; they
+     * are courses of the same result.
+     */
+    @Override
+    @EntityGraph("Course.specialization")
+    List<Course> findAll();
+
     List<Course> findBySemesterOrder(int semesterOrder);
 
 }
@@ -0,0 +1,20 @@
+package com.highschool.scheduler.repository;
+
+import com.highschool.scheduler.model.CourseSection;
+
+import java.util.List;
+
+/**
+ * Bulk insert of new course sections, used to save a generated schedule.
+ */
+public interface CourseSectionBatchRepository {
+
+    /**
+     * Inserts new sections with batched JDBC statements. Their ids are reserved as one block
+     * from the table's {@code AUTOINCREMENT} counter and set on the given sections.
+     *
+     * @param sections sections without ids
+     * @return the same sections, with their ids set
+     */
+    List<CourseSection> insertAll(List<CourseSection> sections);
+}
@@ -0,0 +1,67 @@
+package com.highschool.scheduler.repository;
+
+import com.highschool.scheduler.model.CourseSection;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * Writes sections through one prepared statement in batches of {@value #INSERT_BATCH_SIZE}
+ * rows. {@code IDENTITY} ids would make Hibernate insert row by row and read each id back, so
+ * the ids are assigned up front from SQLite's {@code sqlite_sequence} table instead.
+ */
+@RequiredArgsConstructor
+class CourseSectionBatchRepositoryImpl implements CourseSectionBatchRepository {
+
+    private static final int INSERT_BATCH_SIZE = 500;
+    private static final String LAST_ID = """
+            SELECT MAX(COALESCE((SELECT seq FROM sqlite_sequence WHERE name = 'course_sections'), 0),
+                       COALESCE((SELECT MAX(id) FROM course_sections), 0))
+            """;
+    private static final String UPDATE_SEQUENCE = "UPDATE sqlite_sequence SET seq = ? WHERE name = 'course_sections'";
+    private static final String INSERT_SEQUENCE = "INSERT INTO sqlite_sequence (name, seq) VALUES ('course_sections', ?)";
+    private static final String INSERT_SECTION = """
+            INSERT INTO course_sections (id, course_id, teacher_id, classroom_id, semester_id, day_of_week, start_time, end_time)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    @Transactional
+    public List<CourseSection> insertAll(List<CourseSection> sections) {
+        if (sections.isEmpty()) return sections;
+
+        long next = reserveIds(sections.size());
+        for (CourseSection section : sections) {
+            section.setId(next++);
+        }
+        jdbcTemplate.batchUpdate(INSERT_SECTION, sections, INSERT_BATCH_SIZE, (ps, s) -> {
+            ps.setLong(1, s.getId());
+            ps.setLong(2, s.getCourse().getId());
+            ps.setLong(3, s.getTeacher().getId());
+            ps.setLong(4, s.getClassroom().getId());
+            ps.setLong(5, s.getSemester().getId());
+            ps.setString(6, s.getDayOfWeek().name());
+            ps.setString(7, s.getStartTime().toString());
+            ps.setString(8, s.getEndTime().toString());
+        });
+        return sections;
+    }
+
+    /**
+     * Moves the table's counter past a block of {@code count} ids, so ids handed out by SQLite
+     * later never collide with them, and returns the first id of the block. The counter is never
+     * behind the highest id in use.
+     */
+    private long reserveIds(int count) {
+        long last = jdbcTemplate.queryForObject(LAST_ID, Long.class);
+        long end = last + count;
+        if (jdbcTemplate.update(UPDATE_SEQUENCE, end) == 0) {
+            jdbcTemplate.update(INSERT_SEQUENCE, end);
+        }
+        return last + 1;
+    }
+}
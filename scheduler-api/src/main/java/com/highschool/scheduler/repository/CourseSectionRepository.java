@@ -1,21 +1,87 @@
 package com.highschool.scheduler.repository;
 
+import com.highschool.scheduler.dto.EligibleSectionRow;
+import com.highschool.scheduler.dto.ScheduledSectionRow;
 import com.highschool.scheduler.model.CourseSection;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+import java.util.Optional;
+
 @Repository
-public interface CourseSectionRepository extends JpaRepository<CourseSection, Long> {
+public interface CourseSectionRepository extends JpaRepository<CourseSection, Long>, CourseSectionBatchRepository {
+    /**
+     * Loads the section with the course, classroom and semester the enrollment rules read.
+     */
+    @Override
+    @EntityGraph("CourseSection.enrollment")
+    Optional<CourseSection> findById(Long id);
+
+    /**
+     * Loads the sections with the course, classroom and semester the enrollment rules read.
+     */
+    @Override
+    @EntityGraph("CourseSection.enrollment")
+    List<CourseSection> findAllById(Iterable<Long> ids);
+
     @Modifying
     @Query("""
                 DELETE FROM CourseSection cs
-                WHERE cs.semester.id = (
-                    SELECT s.id FROM Semester s WHERE s.isActive = true
-                )
+                WHERE cs.semester.id = :semesterId
+            """)
+    void deleteAllBySemesterId(@Param("semesterId") Long semesterId);
+
+    /**
+     * Finds the sections of a semester a student may enroll in. The grade range, "not already
+     * passed", "not already enrolled in the course this semester" and prerequisite rules are
+     * applied in the query.
+     */
+    @Query("""
+                SELECT new com.highschool.scheduler.dto.EligibleSectionRow(
+                    cs.id, c.id, c.name, t.firstName, t.lastName, r.name,
+                    cs.dayOfWeek, cs.startTime, cs.endTime, c.courseType)
+                FROM CourseSection cs
+                    JOIN cs.course c
+                    JOIN cs.teacher t
+                    JOIN cs.classroom r
+                WHERE cs.semester.id = :semesterId
+                  AND :gradeLevel BETWEEN c.gradeLevelMin AND c.gradeLevelMax
+                  AND NOT EXISTS (
+                    SELECT 1 FROM StudentCourseHistory h
+                    WHERE h.student.id = :studentId AND h.course = c AND LOWER(h.status) = 'passed')
+                  AND NOT EXISTS (
+                    SELECT 1 FROM StudentSectionEnrollment se
+                    WHERE se.student.id = :studentId AND se.semester.id = :semesterId
+                      AND se.courseSection.course = c)
+                  AND (c.prerequisite IS NULL OR EXISTS (
+                    SELECT 1 FROM StudentCourseHistory p
+                    WHERE p.student.id = :studentId AND p.course = c.prerequisite AND LOWER(p.status) = 'passed'))
+                ORDER BY cs.id
+            """)
+    List<EligibleSectionRow> findEligibleSections(@Param("studentId") Long studentId,
+                                                  @Param("semesterId") Long semesterId,
+                                                  @Param("gradeLevel") int gradeLevel);
+
+    /**
+     * Every section with the course, teacher and room columns of the schedule and utilization
+     * views, in id order.
+     */
+    @Query("""
+                SELECT new com.highschool.scheduler.dto.ScheduledSectionRow(
+                    cs.id, cs.dayOfWeek, cs.startTime, cs.endTime, c.code, c.name,
+                    t.id, t.firstName, t.lastName, r.id, r.name)
+                FROM CourseSection cs
+                    JOIN cs.course c
+                    JOIN cs.teacher t
+                    JOIN cs.classroom r
+                ORDER BY cs.id
             """)
-    void deleteAllByActiveSemester();
+    List<ScheduledSectionRow> findScheduledSections();
 
 }
 
@@ -1,10 +1,15 @@
 package com.highschool.scheduler.repository;
 
 import com.highschool.scheduler.model.StudentCourseHistory;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 import java.util.List;
 
 public interface StudentCourseHistoryRepository extends JpaRepository<StudentCourseHistory, Long> {
+    /**
+     * A student's history rows with the course and semester of each, for the transcript.
+     */
+    @EntityGraph("StudentCourseHistory.transcript")
     List<StudentCourseHistory> findByStudentId(Long studentId);
 }
@@ -1,11 +1,45 @@
 package com.highschool.scheduler.repository;
 
+import com.highschool.scheduler.dto.StudentProgressRow;
 import com.highschool.scheduler.model.Student;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface StudentRepository extends JpaRepository<Student, Long> {
-    Optional<Student> findByEmailIgnoreCase(String email);
-}
+    /**
+     * Case-insensitive e-mail lookup. Compares with {@code COLLATE NOCASE} rather than
+     * {@code upper(email)} so that SQLite can use {@code idx_students_email_nocase}.
+     */
+    @Query(value = "SELECT * FROM students WHERE email = :email COLLATE NOCASE LIMIT 1", nativeQuery = true)
+    Optional<Student> findByEmailIgnoreCase(@Param("email") String email);
+
+    String PROGRESS_ROW = """
+                SELECT new com.highschool.scheduler.dto.StudentProgressRow(
+                    s.id, s.firstName, s.lastName, s.email, s.gradeLevel,
+                    (SELECT COALESCE(SUM(c.credits), 0.0)
+                       FROM StudentCourseHistory h JOIN h.course c
+                      WHERE h.student = s AND LOWER(h.status) = 'passed'),
+                    (SELECT COUNT(h) FROM StudentCourseHistory h
+                      WHERE h.student = s AND LOWER(h.status) = 'passed'),
+                    (SELECT COUNT(h) FROM StudentCourseHistory h
+                      WHERE h.student = s AND LOWER(h.status) IN ('passed', 'failed')),
+                    (SELECT COUNT(e) FROM StudentSectionEnrollment e WHERE e.student = s))
+                FROM Student s
+            """;
 
+    /**
+     * The student's passed credits, graded course counts and enrollment count, aggregated in one query.
+     */
+    @Query(PROGRESS_ROW + " WHERE s.id = :studentId")
+    Optional<StudentProgressRow> findProgressRow(@Param("studentId") Long studentId);
+
+    /**
+     * {@link #findProgressRow} for every student of a grade level, ordered by student id.
+     */
+    @Query(PROGRESS_ROW + " WHERE s.gradeLevel = :gradeLevel ORDER BY s.id")
+    List<StudentProgressRow> findProgressRowsByGradeLevel(@Param("gradeLevel") int gradeLevel);
+}
@@ -1,20 +1,21 @@
 // com.highschool.scheduler.repository.StudentSectionEnrollmentRepository
 package com.highschool.scheduler.repository;
 
+import com.highschool.scheduler.dto.EnrolledSectionRow;
+import com.highschool.scheduler.dto.EnrolledSlot;
+import com.highschool.scheduler.dto.SectionDateCount;
 import com.highschool.scheduler.model.StudentSectionEnrollment;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
-import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 
 public interface StudentSectionEnrollmentRepository extends JpaRepository<StudentSectionEnrollment, Long> {
     int countByStudentIdAndSemesterId(Long studentId, Long semesterId);
 
-    List<StudentSectionEnrollment> findByStudentIdAndSemesterId(Long studentId, Long semesterId);
-
     @Query(
             value = """
                       SELECT * 
@@ -27,31 +28,93 @@ public interface StudentSectionEnrollmentRepository extends JpaRepository<Studen
     StudentSectionEnrollment findByStudentAndSection(@Param("studentId") Long studentId,
                                                      @Param("sectionId") Long sectionId);
 
-    @Query("SELECT COUNT(e) FROM StudentSectionEnrollment e " +
-            "WHERE e.courseSection.id = :sectionId AND e.enrolledDate = :date")
-    long countByCourseSectionIdAndEnrolledDate(@Param("sectionId") Long sectionId, @Param("date") LocalDate date);
-
+    /**
+     * Deletes the enrollments in the sections of a semester. Selects the sections first so the
+     * delete walks {@code idx_enroll_section_date} instead of scanning every enrollment.
+     */
+    @Modifying
+    @Query("""
+                DELETE FROM StudentSectionEnrollment e
+                WHERE e.courseSection.id IN (
+                    SELECT cs.id FROM CourseSection cs WHERE cs.semester.id = :semesterId)
+            """)
+    void deleteAllBySemesterId(@Param("semesterId") Long semesterId);
 
-    List<StudentSectionEnrollment> findByStudentId(Long studentId);
+    /**
+     * Enrolled counts per section and date for every section of a semester. A section without
+     * enrollments comes back as a single row with a null date and a zero count.
+     */
+    @Query("""
+                SELECT new com.highschool.scheduler.dto.SectionDateCount(cs.id, e.enrolledDate, r.capacity, COUNT(e))
+                FROM CourseSection cs
+                    JOIN cs.classroom r
+                    LEFT JOIN StudentSectionEnrollment e ON e.courseSection = cs
+                WHERE cs.semester.id = :semesterId
+                GROUP BY cs.id, e.enrolledDate, r.capacity
+            """)
+    List<SectionDateCount> countBySectionAndDateForSemester(@Param("semesterId") Long semesterId);
 
+    /**
+     * Enrolled counts per section and date for the given sections, with the same null-date row
+     * for a section without enrollments.
+     */
+    @Query("""
+                SELECT new com.highschool.scheduler.dto.SectionDateCount(cs.id, e.enrolledDate, r.capacity, COUNT(e))
+                FROM CourseSection cs
+                    JOIN cs.classroom r
+                    LEFT JOIN StudentSectionEnrollment e ON e.courseSection = cs
+                WHERE cs.id IN :sectionIds
+                GROUP BY cs.id, e.enrolledDate, r.capacity
+            """)
+    List<SectionDateCount> countBySectionAndDateForSections(@Param("sectionIds") Collection<Long> sectionIds);
 
-    @Modifying
     @Query("""
-                DELETE FROM StudentSectionEnrollment e
-                WHERE e.courseSection.semester.id = (
-                    SELECT s.id FROM Semester s WHERE s.isActive = true
-                )
+                SELECT new com.highschool.scheduler.dto.EnrolledSlot(
+                    e.student.id, cs.id, e.semester.id, e.enrolledDate,
+                    cs.dayOfWeek, cs.startTime, cs.endTime, c.name)
+                FROM StudentSectionEnrollment e
+                    JOIN e.courseSection cs
+                    JOIN cs.course c
+                WHERE e.student.id IN :studentIds
             """)
-    void deleteAllByActiveSemester();
+    List<EnrolledSlot> findEnrolledSlotsByStudentIds(@Param("studentIds") Collection<Long> studentIds);
 
     @Query("""
-                SELECT COUNT(e)
+                SELECT new com.highschool.scheduler.dto.EnrolledSlot(
+                    e.student.id, cs.id, e.semester.id, e.enrolledDate,
+                    cs.dayOfWeek, cs.startTime, cs.endTime, c.name)
                 FROM StudentSectionEnrollment e
-                WHERE e.courseSection.id = :sectionId
-                  AND e.enrolledDate = :date
+                    JOIN e.courseSection cs
+                    JOIN cs.course c
+                WHERE e.student.id = :studentId AND e.semester.id = :semesterId
+                ORDER BY e.id
             """)
-    long countBySectionAndDate(@Param("sectionId") Long sectionId,
-                               @Param("date") LocalDate date);
+    List<EnrolledSlot> findEnrolledSlots(@Param("studentId") Long studentId, @Param("semesterId") Long semesterId);
+
+    String ENROLLED_SECTION_ROW = """
+                SELECT new com.highschool.scheduler.dto.EnrolledSectionRow(
+                    cs.id, cs.dayOfWeek, cs.startTime, cs.endTime, c.code, c.name,
+                    t.firstName, t.lastName, r.name, e.enrolledDate)
+                FROM StudentSectionEnrollment e
+                    JOIN e.courseSection cs
+                    JOIN cs.course c
+                    JOIN cs.teacher t
+                    JOIN cs.classroom r
+            """;
+
+    /**
+     * All enrollments of a student with the columns of their sections, by semester and then in
+     * enrollment order.
+     */
+    @Query(ENROLLED_SECTION_ROW + " WHERE e.student.id = :studentId ORDER BY e.semester.id, e.id")
+    List<EnrolledSectionRow> findEnrolledSections(@Param("studentId") Long studentId);
+
+    /**
+     * The enrollments of a student in one semester with the columns of their sections, in
+     * enrollment order.
+     */
+    @Query(ENROLLED_SECTION_ROW + " WHERE e.student.id = :studentId AND e.semester.id = :semesterId ORDER BY e.id")
+    List<EnrolledSectionRow> findEnrolledSections(@Param("studentId") Long studentId, @Param("semesterId") Long semesterId);
 
 
 }
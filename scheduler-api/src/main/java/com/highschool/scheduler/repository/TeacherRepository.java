@@ -1,10 +1,26 @@
 package com.highschool.scheduler.repository;
 
 import com.highschool.scheduler.model.Teacher;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface TeacherRepository extends JpaRepository<Teacher, Long> {
-    Optional<Teacher> findByEmailIgnoreCase(String email);
+    /**
+     * Loads every teacher with their specialization and its room type.
+     */
+    @Override
+    @EntityGraph("Teacher.specialization")
+    List<Teacher> findAll();
+
+    /**
+     * Case-insensitive e-mail lookup on {@code idx_teachers_email_nocase}, see
+     * {@link StudentRepository#findByEmailIgnoreCase(String)}.
+     */
+    @Query(value = "SELECT * FROM teachers WHERE email = :email COLLATE NOCASE LIMIT 1", nativeQuery = true)
+    Optional<Teacher> findByEmailIgnoreCase(@Param("email") String email);
 }
@@ -0,0 +1,138 @@
+package com.highschool.scheduler.service;
+
+import com.highschool.scheduler.model.Semester;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.Period;
+import java.time.temporal.TemporalAdjusters;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * The active semester as an immutable, versioned snapshot: the semester, its date range, the
+ * start of each of its weeks and, per weekday, every date it meets on.
+ * <p>
+ * The snapshot is derived from the {@link ReferenceDataCache}, so it is rebuilt whenever that
+ * cache is reloaded or invalidated (schedule generation, a replaced schedule, an explicit
+ * refresh). The new snapshot is swapped in with a single write, and each rebuild gets the next
+ * version number, so readers always see one consistent semester. Callers bind
+ * {@link ActiveSemester#id()} into their queries instead of looking the active semester up.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ActiveSemesterContext {
+
+    private final ReferenceDataCache referenceData;
+
+    private volatile Binding binding;
+    private long version;
+
+    /**
+     * @return the active semester, or empty if no semester is marked active
+     */
+    public Optional<ActiveSemester> find() {
+        ReferenceDataCache.Snapshot reference = referenceData.snapshot();
+        Binding current = binding;
+        if (current == null || current.source() != reference) {
+            current = rebind(reference);
+        }
+        return Optional.ofNullable(current.active());
+    }
+
+    /**
+     * @return the active semester
+     * @throws IllegalStateException if no semester is marked active
+     */
+    public ActiveSemester require() {
+        return find().orElseThrow(() -> new IllegalStateException("No active semester found"));
+    }
+
+    private synchronized Binding rebind(ReferenceDataCache.Snapshot reference) {
+        if (binding != null && binding.source() == reference) return binding;
+
+        ActiveSemester active = reference.activeSemester()
+                .map(s -> ActiveSemester.of(++version, s))
+                .orElse(null);
+        binding = new Binding(reference, active);
+        log.info("Active semester is now {} (version {})",
+                active == null ? "none" : active.semester().getName(), version);
+        return binding;
+    }
+
+    /**
+     * The reference data snapshot an active semester was derived from.
+     */
+    private record Binding(ReferenceDataCache.Snapshot source, ActiveSemester active) {
+    }
+
+    /**
+     * One immutable version of the active semester with its calendar precomputed.
+     *
+     * @param version    increases by one each time the active semester is reloaded
+     * @param semester   the semester entity; shared, must not be modified
+     * @param startDate  first day of the semester
+     * @param endDate    last day of the semester
+     * @param weekStarts the first day of each week, counted from {@code startDate}
+     * @param datesByDay every date in the semester, per weekday
+     */
+    public record ActiveSemester(long version,
+                                 Semester semester,
+                                 LocalDate startDate,
+                                 LocalDate endDate,
+                                 List<LocalDate> weekStarts,
+                                 Map<DayOfWeek, List<LocalDate>> datesByDay) {
+
+        /**
+         * Builds the snapshot of a semester, precomputing its weeks and weekday dates.
+         */
+        public static ActiveSemester of(long version, Semester semester) {
+            LocalDate start = semester.getStartDate();
+            LocalDate end = semester.getEndDate();
+            Map<DayOfWeek, List<LocalDate>> byDay = new EnumMap<>(DayOfWeek.class);
+            List<LocalDate> weeks = List.of();
+            if (start != null && end != null) {
+                weeks = start.isBefore(end) ? start.datesUntil(end, Period.ofWeeks(1)).toList() : List.of();
+                for (DayOfWeek day : DayOfWeek.values()) {
+                    byDay.put(day, weeklyDates(start, end, day));
+                }
+            }
+            return new ActiveSemester(version, semester, start, end, weeks, Collections.unmodifiableMap(byDay));
+        }
+
+        /**
+         * Every date from {@code start} to {@code end}, inclusive, that falls on {@code day}.
+         */
+        public static List<LocalDate> weeklyDates(LocalDate start, LocalDate end, DayOfWeek day) {
+            LocalDate first = start.with(TemporalAdjusters.nextOrSame(day));
+            LocalDate until = end.plusDays(1);
+            if (!first.isBefore(until)) return List.of();
+            return first.datesUntil(until, Period.ofWeeks(1)).toList();
+        }
+
+        public Long id() {
+            return semester.getId();
+        }
+
+        /**
+         * @return the number of (possibly partial) weeks in the semester
+         */
+        public int weeks() {
+            return weekStarts.size();
+        }
+
+        /**
+         * @return the semester's dates falling on {@code day}, in order
+         */
+        public List<LocalDate> datesOn(DayOfWeek day) {
+            return datesByDay.getOrDefault(day, List.of());
+        }
+    }
+}
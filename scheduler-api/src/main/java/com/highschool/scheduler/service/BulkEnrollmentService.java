@@ -0,0 +1,168 @@
+package com.highschool.scheduler.service;
+
+import com.highschool.scheduler.dto.BulkEnrollmentReport;
+import com.highschool.scheduler.dto.BulkEnrollmentResult;
+import com.highschool.scheduler.dto.EnrolledSlot;
+import com.highschool.scheduler.dto.EnrollmentRequestDTO;
+import com.highschool.scheduler.model.CourseSection;
+import com.highschool.scheduler.model.Student;
+import com.highschool.scheduler.repository.CourseSectionRepository;
+import com.highschool.scheduler.repository.StudentRepository;
+import com.highschool.scheduler.repository.StudentSectionEnrollmentRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Enrolls many (student, section, date) rows in one call, for registrar bulk loads.
+ * <p>
+ * Everything the rules need is read up front with a handful of {@code IN} queries: the
+ * sections, the students, the students' existing enrollments and the sections' seat counts.
+ * Each row is then checked in memory against the same rules as
+ * {@link EnrollmentService#enroll} and against the rows accepted before it, and the accepted
+ * rows are written with JDBC batch inserts. Rejected rows do not stop the rest of the batch.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BulkEnrollmentService {
+
+    static final String MISSING_FIELDS = "studentId, sectionId and enrolledDate are required";
+
+    private static final int IN_CLAUSE_CHUNK = 900;
+    private static final int INSERT_BATCH_SIZE = 500;
+    private static final String INSERT_ENROLLMENT = """
+            INSERT INTO student_section_enrollments (student_id, course_section_id, semester_id, enrolled_date)
+            VALUES (?, ?, ?, ?)
+            """;
+
+    private final StudentRepository studentRepo;
+    private final CourseSectionRepository sectionRepo;
+    private final StudentSectionEnrollmentRepository enrollRepo;
+    private final SeatInventory seatInventory;
+    private final StudentTimetableCache timetableCache;
+    private final StudentProgressService progressService;
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Validates and saves a batch of enrollments.
+     *
+     * @param requests the rows to enroll
+     * @return one accept/reject result per row, in request order
+     */
+    @Transactional
+    public BulkEnrollmentReport enrollAll(List<EnrollmentRequestDTO> requests) {
+        Set<Long> sectionIds = new HashSet<>();
+        Set<Long> studentIds = new HashSet<>();
+        for (EnrollmentRequestDTO r : requests) {
+            if (r.sectionId() != null) sectionIds.add(r.sectionId());
+            if (r.studentId() != null) studentIds.add(r.studentId());
+        }
+
+        Map<Long, CourseSection> sections = inChunks(sectionIds, sectionRepo::findAllById).stream()
+                .collect(Collectors.toMap(CourseSection::getId, Function.identity()));
+        Set<Long> knownStudents = inChunks(studentIds, studentRepo::findAllById).stream()
+                .map(Student::getId)
+                .collect(Collectors.toSet());
+        Map<Long, List<EnrolledSlot>> enrolledByStudent = inChunks(studentIds, enrollRepo::findEnrolledSlotsByStudentIds).stream()
+                .collect(Collectors.groupingBy(EnrolledSlot::studentId, Collectors.toCollection(ArrayList::new)));
+        seatInventory.preload(sections.keySet());
+
+        List<BulkEnrollmentResult> results = new ArrayList<>(requests.size());
+        List<Object[]> inserts = new ArrayList<>();
+        for (int i = 0; i < requests.size(); i++) {
+            EnrollmentRequestDTO r = requests.get(i);
+            String error = validate(r, sections, knownStudents, enrolledByStudent);
+            if (error == null) {
+                CourseSection section = sections.get(r.sectionId());
+                enrolledByStudent.computeIfAbsent(r.studentId(), id -> new ArrayList<>()).add(slotOf(r, section));
+                inserts.add(new Object[]{r.studentId(), section.getId(), section.getSemester().getId(), r.enrolledDate().toString()});
+            }
+            results.add(new BulkEnrollmentResult(i, r.studentId(), r.sectionId(), r.enrolledDate(), error == null, error));
+        }
+
+        jdbcTemplate.batchUpdate(INSERT_ENROLLMENT, inserts, INSERT_BATCH_SIZE, (ps, row) -> {
+            ps.setLong(1, (Long) row[0]);
+            ps.setLong(2, (Long) row[1]);
+            ps.setLong(3, (Long) row[2]);
+            ps.setString(4, (String) row[3]);
+        });
+        timetableCache.invalidate(inserts.stream().map(row -> (Long) row[0]).toList());
+        progressService.recordEnrollments(inserts.stream()
+                .collect(Collectors.groupingBy(row -> (Long) row[0], Collectors.summingInt(row -> 1))));
+        log.info("Bulk enrollment: {} of {} rows accepted", inserts.size(), requests.size());
+        return new BulkEnrollmentReport(inserts.size(), requests.size() - inserts.size(), results);
+    }
+
+    /**
+     * Applies the single-enrollment rules to one row; on success its seat has been reserved.
+     *
+     * @return the rejection reason, or {@code null} if the row is accepted
+     */
+    private String validate(EnrollmentRequestDTO r, Map<Long, CourseSection> sections, Set<Long> knownStudents,
+                            Map<Long, List<EnrolledSlot>> enrolledByStudent) {
+        if (r.studentId() == null || r.sectionId() == null || r.enrolledDate() == null) return MISSING_FIELDS;
+
+        CourseSection section = sections.get(r.sectionId());
+        if (section == null) return EnrollmentService.COURSE_SECTION_NOT_FOUND;
+        if (!knownStudents.contains(r.studentId())) return EnrollmentService.STUDENT_NOT_FOUND;
+
+        List<EnrolledSlot> enrolled = enrolledByStudent.getOrDefault(r.studentId(), List.of());
+        if (enrolled.stream().anyMatch(e -> Objects.equals(e.sectionId(), section.getId()))) {
+            return EnrollmentService.ALREADY_ENROLLED_IN_THIS_SECTION;
+        }
+        if (seatInventory.remaining(section, r.enrolledDate()) <= 0) {
+            return EnrollmentService.ROOM_IS_FULL_FOR_SECTION_DATE + " " + r.enrolledDate();
+        }
+        long planned = enrolled.stream()
+                .filter(e -> Objects.equals(e.semesterId(), section.getSemester().getId()))
+                .count();
+        if (planned >= EnrollmentService.MAX_COURSES_PER_SEMESTER) {
+            return EnrollmentService.MAX_COURSES_REACHED;
+        }
+        for (EnrolledSlot e : enrolled) {
+            if (Objects.equals(e.enrolledDate(), r.enrolledDate()) && overlaps(e, section)) {
+                return String.format(EnrollmentService.ENROLLMENT_TIME_CONFLICT,
+                        e.courseName(), e.dayOfWeek(), e.startTime(), e.endTime());
+            }
+        }
+        if (!seatInventory.tryReserve(section, r.enrolledDate())) {
+            return EnrollmentService.ROOM_IS_FULL_FOR_SECTION_DATE + " " + r.enrolledDate();
+        }
+        return null;
+    }
+
+    private static boolean overlaps(EnrolledSlot e, CourseSection s) {
+        return e.dayOfWeek() == s.getDayOfWeek()
+                && e.endTime().isAfter(s.getStartTime())
+                && s.getEndTime().isAfter(e.startTime());
+    }
+
+    private static EnrolledSlot slotOf(EnrollmentRequestDTO r, CourseSection s) {
+        return new EnrolledSlot(r.studentId(), s.getId(), s.getSemester().getId(), r.enrolledDate(),
+                s.getDayOfWeek(), s.getStartTime(), s.getEndTime(), s.getCourse().getName());
+    }
+
+    /**
+     * Runs an {@code IN} query over the ids in chunks that stay within SQLite's bound-parameter limit.
+     */
+    private static <T> List<T> inChunks(Set<Long> ids, Function<List<Long>, List<T>> query) {
+        List<Long> all = new ArrayList<>(ids);
+        List<T> out = new ArrayList<>();
+        for (int from = 0; from < all.size(); from += IN_CLAUSE_CHUNK) {
+            out.addAll(query.apply(all.subList(from, Math.min(all.size(), from + IN_CLAUSE_CHUNK))));
+        }
+        return out;
+    }
+}
@@ -2,7 +2,6 @@ package com.highschool.scheduler.service;
 
 
 import com.highschool.scheduler.model.Classroom;
-import com.highschool.scheduler.repository.ClassroomRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
@@ -12,9 +11,9 @@ import java.util.List;
 @RequiredArgsConstructor
 public class ClassroomService {
 
-    private final ClassroomRepository classroomRepository;
+    private final ReferenceDataCache referenceData;
 
     public List<Classroom> getAllClassrooms() {
-        return classroomRepository.findAll();
+        return referenceData.snapshot().classroomList();
     }
 }
@@ -1,7 +1,6 @@
 package com.highschool.scheduler.service;
 
 import com.highschool.scheduler.model.Course;
-import com.highschool.scheduler.repository.CourseRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
@@ -11,9 +10,9 @@ import java.util.List;
 @RequiredArgsConstructor
 public class CourseService {
 
-    private final CourseRepository courseRepo;
+    private final ReferenceDataCache referenceData;
 
     public List<Course> findAll() {
-        return this.courseRepo.findAll();
+        return this.referenceData.snapshot().courseList();
     }
 }
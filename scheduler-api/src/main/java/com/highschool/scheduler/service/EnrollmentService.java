@@ -2,15 +2,15 @@ package com.highschool.scheduler.service;
 
 import com.highschool.scheduler.dto.AcademicHistoryDTO;
 import com.highschool.scheduler.dto.EligibleSectionDTO;
+import com.highschool.scheduler.dto.EligibleSectionRow;
+import com.highschool.scheduler.dto.EnrolledSlot;
 import com.highschool.scheduler.dto.EnrollmentDTO;
 import com.highschool.scheduler.dto.ScheduleEventDTO;
 import com.highschool.scheduler.dto.ValidationResponse;
 import com.highschool.scheduler.model.CourseSection;
 import com.highschool.scheduler.model.Semester;
 import com.highschool.scheduler.model.StudentSectionEnrollment;
-import com.highschool.scheduler.repository.CourseRepository;
 import com.highschool.scheduler.repository.CourseSectionRepository;
-import com.highschool.scheduler.repository.SemesterRepository;
 import com.highschool.scheduler.repository.StudentCourseHistoryRepository;
 import com.highschool.scheduler.repository.StudentRepository;
 import com.highschool.scheduler.repository.StudentSectionEnrollmentRepository;
@@ -18,21 +18,21 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class EnrollmentService {
 
-    private static final int MAX_COURSES_PER_SEMESTER = 5;
+    public static final int MAX_COURSES_PER_SEMESTER = 5;
+    public static final String MAX_COURSES_REACHED = "Maximum of " + MAX_COURSES_PER_SEMESTER + " courses per semester reached.";
     public static final String STUDENT_NOT_FOUND = "Student not found";
     public static final String SEMESTER_NOT_FOUND = "Semester not found";
     public static final String PREREQUISITE_NOT_COMPLETED = "Prerequisite not completed";
@@ -45,10 +45,13 @@ public class EnrollmentService {
 
     private final StudentRepository studentRepo;
     private final CourseSectionRepository sectionRepo;
-    private final SemesterRepository semesterRepo;
     private final StudentSectionEnrollmentRepository enrollRepo;
     private final StudentCourseHistoryRepository historyRepo;
-    private final CourseRepository courseRepo;
+    private final SeatInventory seatInventory;
+    private final StudentTimetableCache timetableCache;
+    private final ReferenceDataCache referenceData;
+    private final ActiveSemesterContext activeSemester;
+    private final StudentProgressService progressService;
 
     /**
      * Retrieves the schedule for the specified student.
@@ -56,22 +59,20 @@ public class EnrollmentService {
      * @param studentId the ID of the student whose schedule is requested
      * @return a list of {@link ScheduleEventDTO} representing the student's schedule
      */
+    @Transactional(readOnly = true)
     public List<ScheduleEventDTO> getSchedule(Long studentId) {
-        return enrollRepo.findByStudentId(studentId).stream()
-                .map(e -> {
-                    CourseSection s = e.getCourseSection();
-                    return new ScheduleEventDTO(
-                            s.getId(),
-                            s.getDayOfWeek(),
-                            s.getStartTime(),
-                            s.getEndTime(),
-                            s.getCourse().getCode(),
-                            s.getCourse().getName(),
-                            s.getTeacher().getFirstName() + " " + s.getTeacher().getLastName(),
-                            s.getClassroom().getName(),
-                            e.getEnrolledDate()
-                    );
-                })
+        return enrollRepo.findEnrolledSections(studentId).stream()
+                .map(r -> new ScheduleEventDTO(
+                        r.sectionId(),
+                        r.dayOfWeek(),
+                        r.startTime(),
+                        r.endTime(),
+                        r.courseCode(),
+                        r.courseName(),
+                        r.teacherFirstName() + " " + r.teacherLastName(),
+                        r.roomName(),
+                        r.enrolledDate()
+                ))
                 .toList();
 
     }
@@ -82,80 +83,34 @@ public class EnrollmentService {
      * @param studentId the ID of the student
      * @return a list of {@link EligibleSectionDTO} for which the student is eligible
      */
+    @Transactional(readOnly = true)
     public List<EligibleSectionDTO> getEligibleSections(Long studentId) {
 
         var student = studentRepo.findById(studentId)
                 .orElseThrow(() -> new IllegalArgumentException(STUDENT_NOT_FOUND));
 
-        var semester = semesterRepo.findByIsActiveTrue()
+        var semester = activeSemester.find()
                 .orElseThrow(() -> new IllegalArgumentException(SEMESTER_NOT_FOUND));
 
-        var sections = sectionRepo.findAll().stream()
-                .filter(s -> Objects.equals(s.getSemester().getId(), semester.getId()))
-                .toList();
-
-        var history = historyRepo.findAll().stream()
-                .filter(h -> h.getStudent().getId().equals(studentId))
-                .toList();
-
-        var enrolledSections = enrollRepo.findByStudentIdAndSemesterId(studentId, semester.getId());
-        var enrolledCourseIds = enrolledSections.stream()
-                .map(e -> e.getCourseSection().getCourse().getId())
-                .collect(Collectors.toSet());
-
-        List<EligibleSectionDTO> eligible = new ArrayList<>();
-
-        for (var sec : sections) {
-            var c = sec.getCourse();
-
-            boolean passed = history.stream()
-                    .anyMatch(h -> h.getCourse().getId().equals(c.getId()) &&
-                            "passed".equalsIgnoreCase(h.getStatus()));
-            if (passed || enrolledCourseIds.contains(c.getId())) continue;
-
-            if (student.getGradeLevel() < c.getGradeLevelMin() ||
-                    student.getGradeLevel() > c.getGradeLevelMax())
-                continue;
-
-            if (c.getPrerequisite() != null) {
-                boolean prereqPassed = history.stream()
-                        .anyMatch(h -> h.getCourse().getId().equals(c.getPrerequisite().getId()) &&
-                                "passed".equalsIgnoreCase(h.getStatus()));
-                if (!prereqPassed) continue;
-            }
-
-            int enrolledCount = (int) enrollRepo.findAll().stream()
-                    .filter(e -> e.getCourseSection().getId().equals(sec.getId()))
-                    .count();
-
-            eligible.add(new EligibleSectionDTO(
-                    sec.getId(),
-                    c.getId(),
-                    c.getName(),
-                    sec.getTeacher().getFirstName() + " " + sec.getTeacher().getLastName(),
-                    sec.getClassroom().getName(),
-                    sec.getDayOfWeek().name(),
-                    sec.getStartTime().toString(),
-                    sec.getEndTime().toString(),
-                    10,
-                    enrolledCount,
-                    c.getCourseType()
-            ));
-        }
-
-        final List<String> DAY_ORDER = List.of(
-                "MONDAY", "TUESDAY", "WEDNESDAY", "THURSDAY", "FRIDAY"
-        );
-
-        return eligible.stream()
-                .sorted((a, b) -> {
-                    int d1 = DAY_ORDER.indexOf(a.dayOfWeek());
-                    int d2 = DAY_ORDER.indexOf(b.dayOfWeek());
-                    if (d1 != d2) return d1 - d2;
-                    return a.startTime().compareTo(b.startTime());
-                })
+        List<EligibleSectionRow> rows = sectionRepo.findEligibleSections(studentId, semester.id(), student.getGradeLevel());
+        seatInventory.preload(rows.stream().map(EligibleSectionRow::sectionId).toList());
+        return rows.stream()
+                .sorted(Comparator.comparing(EligibleSectionRow::dayOfWeek)
+                        .thenComparing(EligibleSectionRow::startTime))
+                .map(r -> new EligibleSectionDTO(
+                        r.sectionId(),
+                        r.courseId(),
+                        r.courseName(),
+                        r.teacherFirstName() + " " + r.teacherLastName(),
+                        r.roomName(),
+                        r.dayOfWeek().name(),
+                        r.startTime().toString(),
+                        r.endTime().toString(),
+                        10,
+                        seatInventory.enrolled(r.sectionId()),
+                        r.courseType()
+                ))
                 .toList();
-
     }
 
 
@@ -168,34 +123,21 @@ public class EnrollmentService {
      * @param selectedDate the date for which the conflict is being validated
      * @return a {@link ValidationResponse} indicating conflict status and messages
      */
+    @Transactional(readOnly = true)
     public ValidationResponse validateConflict(Long studentId, Long sectionId, LocalDate selectedDate) {
 
         var target = sectionRepo.findById(sectionId)
                 .orElseThrow(() -> new IllegalArgumentException("Section not found"));
 
-        // All enrollments for student on same semester
-        var existing = enrollRepo.findByStudentIdAndSemesterId(studentId, target.getSemester().getId());
-
         List<String> errors = new ArrayList<>();
-
-        for (var e : existing) {
-
-            // Must match same exact enrolled date
-            if (!Objects.equals(e.getEnrolledDate(), selectedDate)) {
-                continue; // different day → no conflict
-            }
-
-            // Same date → check overlapping time
-            if (overlap(e.getCourseSection(), target)) {
-                var c = e.getCourseSection().getCourse();
-                errors.add(String.format(
-                        ENROLLMENT_TIME_CONFLICT,
-                        c.getName(),
-                        e.getCourseSection().getDayOfWeek(),
-                        e.getCourseSection().getStartTime(),
-                        e.getCourseSection().getEndTime()
-                ));
-            }
+        for (var e : timetableCache.findConflicts(studentId, target, selectedDate)) {
+            errors.add(String.format(
+                    ENROLLMENT_TIME_CONFLICT,
+                    e.courseName(),
+                    e.dayOfWeek(),
+                    e.startTime(),
+                    e.endTime()
+            ));
         }
 
         return new ValidationResponse(errors.isEmpty(), errors);
@@ -209,6 +151,7 @@ public class EnrollmentService {
      * @param courseId the course ID for which prerequisites should be checked
      * @return a {@link ValidationResponse} indicating prerequisite status
      */
+    @Transactional(readOnly = true)
     public ValidationResponse validatePrerequisite(Long studentId, Long courseId) {
         boolean ok = hasSatisfiedPrerequisite(studentId, courseId);
         return new ValidationResponse(ok, ok ? List.of() : List.of(PREREQUISITE_NOT_COMPLETED));
@@ -225,8 +168,9 @@ public class EnrollmentService {
      */
     @Transactional
     public StudentSectionEnrollment enroll(Long studentId, Long sectionId, LocalDate enrolledDate) {
-        var section = sectionRepo.findById(sectionId)
-                .orElseThrow(() -> new IllegalArgumentException(COURSE_SECTION_NOT_FOUND));
+        // linked to the cached reference data, which the returned enrollment is serialized with
+        var section = referenceData.snapshot().link(sectionRepo.findById(sectionId)
+                .orElseThrow(() -> new IllegalArgumentException(COURSE_SECTION_NOT_FOUND)));
         var student = studentRepo.findById(studentId)
                 .orElseThrow(() -> new IllegalArgumentException(STUDENT_NOT_FOUND1));
         var semester = section.getSemester();
@@ -236,16 +180,15 @@ public class EnrollmentService {
             throw new IllegalStateException(ALREADY_ENROLLED_IN_THIS_SECTION);
         }
 
-        // check room capacity
-        long enrolledCount = enrollRepo.countByCourseSectionIdAndEnrolledDate(sectionId, enrolledDate);
-        if (enrolledCount >= section.getClassroom().getCapacity()) {
+        // reserve a seat; it is handed back if any later check fails and the transaction rolls back
+        if (!seatInventory.tryReserve(section, enrolledDate)) {
             throw new IllegalStateException(ROOM_IS_FULL_FOR_SECTION_DATE + " " + enrolledDate);
         }
 
         // Check semester course limit
         int planned = enrollRepo.countByStudentIdAndSemesterId(studentId, semester.getId());
         if (planned >= MAX_COURSES_PER_SEMESTER) {
-            throw new IllegalStateException("Maximum of " + MAX_COURSES_PER_SEMESTER + " courses per semester reached.");
+            throw new IllegalStateException(MAX_COURSES_REACHED);
         }
 
         // conflict detection
@@ -261,7 +204,11 @@ public class EnrollmentService {
         enrollment.setSemester(semester);
         enrollment.setEnrolledDate(enrolledDate);
 
-        return enrollRepo.save(enrollment);
+        var saved = enrollRepo.save(enrollment);
+        timetableCache.recordEnrollment(new EnrolledSlot(studentId, section.getId(), semester.getId(), enrolledDate,
+                section.getDayOfWeek(), section.getStartTime(), section.getEndTime(), section.getCourse().getName()));
+        progressService.recordEnrollments(Map.of(studentId, 1));
+        return saved;
     }
 
     /**
@@ -270,26 +217,34 @@ public class EnrollmentService {
      * @param sectionId the section's ID
      * @return a list of eligible {@link LocalDate} for enrollment
      */
+    @Transactional(readOnly = true)
     public List<LocalDate> getEligibleDatesForSection(Long sectionId) {
         CourseSection section = sectionRepo.findById(sectionId)
                 .orElseThrow(() -> new IllegalArgumentException(SECTION_NOT_FOUND));
 
-        Semester semester = section.getSemester();
-        int capacity = section.getClassroom().getCapacity();
-
-        LocalDate start = semester.getStartDate();
-        LocalDate end = semester.getEndDate();
-        DayOfWeek day = section.getDayOfWeek();
-
-        // ✅ List all dates in semester matching section’s DayOfWeek
-        List<LocalDate> allDates = start.datesUntil(end.plusDays(1))
-                .filter(d -> d.getDayOfWeek().equals(day))
-                .toList();
+        seatInventory.preload(List.of(sectionId));
+        return eligibleDates(section);
+    }
 
-        // ✅ Filter based on available seats
-        return allDates.stream()
-                .filter(d -> enrollRepo.countBySectionAndDate(sectionId, d) < capacity)
-                .toList();
+    /**
+     * Retrieves the eligible enrollment dates of several course sections at once, e.g. for every
+     * section a student may join. Unknown section IDs are left out of the result.
+     *
+     * @param sectionIds the sections' IDs
+     * @return eligible {@link LocalDate}s per section ID, in the order the IDs were given
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, List<LocalDate>> getEligibleDatesForSections(List<Long> sectionIds) {
+        Map<Long, CourseSection> sections = sectionRepo.findAllById(sectionIds).stream()
+                .collect(Collectors.toMap(CourseSection::getId, s -> s));
+        seatInventory.preload(sections.keySet());
+
+        Map<Long, List<LocalDate>> result = new LinkedHashMap<>();
+        for (Long id : sectionIds) {
+            CourseSection section = sections.get(id);
+            if (section != null) result.put(id, eligibleDates(section));
+        }
+        return result;
     }
 
     /**
@@ -298,6 +253,7 @@ public class EnrollmentService {
      * @param studentId the ID of the student
      * @return a list of {@link AcademicHistoryDTO} representing the student's academic history
      */
+    @Transactional(readOnly = true)
     public List<AcademicHistoryDTO> getAcademicHistory(Long studentId) {
         var histories = historyRepo.findByStudentId(studentId);
         return histories.stream()
@@ -318,24 +274,21 @@ public class EnrollmentService {
      * @param studentId the ID of the student
      * @return a list of {@link EnrollmentDTO} for the student's current enrollments
      */
+    @Transactional(readOnly = true)
     public List<EnrollmentDTO> getCurrentEnrollments(Long studentId) {
-        var semester = semesterRepo.findByIsActiveTrue()
-                .orElseThrow(() -> new IllegalStateException("No active semester found"));
+        var semester = activeSemester.require();
 
-        return enrollRepo.findByStudentIdAndSemesterId(studentId, semester.getId())
+        return enrollRepo.findEnrolledSections(studentId, semester.id())
                 .stream()
-                .map(e -> {
-                    var sec = e.getCourseSection();
-                    return new EnrollmentDTO(
-                            sec.getDayOfWeek().name(),
-                            sec.getStartTime().toString(),
-                            sec.getEndTime().toString(),
-                            sec.getCourse().getName(),
-                            sec.getTeacher().getFirstName() + " " + sec.getTeacher().getLastName(),
-                            sec.getClassroom().getName(),
-                            e.getEnrolledDate().toString()
-                    );
-                })
+                .map(r -> new EnrollmentDTO(
+                        r.dayOfWeek().name(),
+                        r.startTime().toString(),
+                        r.endTime().toString(),
+                        r.courseName(),
+                        r.teacherFirstName() + " " + r.teacherLastName(),
+                        r.roomName(),
+                        r.enrolledDate().toString()
+                ))
                 .sorted(Comparator
                         .comparing(EnrollmentDTO::dayOfWeek)
                         .thenComparing(EnrollmentDTO::startTime))
@@ -343,62 +296,25 @@ public class EnrollmentService {
     }
 
 
+    // ----- helpers -----
     /**
-     * Calculates and returns a summary of the student's academic progress,
-     * including GPA, credits, and completion percentage.
-     *
-     * @param studentId the ID of the student
-     * @return a map with progress data (GPA, credits, etc.)
+     * The semester dates the section meets on that still have a free seat.
      */
-    public Map<String, Object> getProgress(Long studentId) {
-        var student = studentRepo.findById(studentId)
-                .orElseThrow(() -> new IllegalArgumentException("Student not found"));
-
-        var histories = historyRepo.findByStudentId(studentId);
-        var enrollments = enrollRepo.findByStudentId(studentId);
-
-        double totalCredits = histories.stream()
-                .filter(h -> "passed".equalsIgnoreCase(h.getStatus()))
-                .mapToDouble(h -> h.getCourse().getCredits())
-                .sum();
-
-        double gpa = histories.stream()
-                .filter(h -> "passed".equalsIgnoreCase(h.getStatus()) || "failed".equalsIgnoreCase(h.getStatus()))
-                .mapToDouble(h -> "passed".equalsIgnoreCase(h.getStatus()) ? 4.0 : 0.0)
-                .average().orElse(0.0);
-
-        int creditsRequired = 30;
-        double creditsRemaining = Math.max(0, creditsRequired - totalCredits);
-        double completion = (totalCredits / creditsRequired) * 100;
-
-        Map<String, Object> result = new LinkedHashMap<>();
-        result.put("studentId", student.getId());
-        result.put("studentName", student.getFirstName() + " " + student.getLastName());
-        result.put("email", student.getEmail());
-        result.put("gradeLevel", student.getGradeLevel());
-        result.put("gpa", gpa);
-        result.put("creditsEarned", totalCredits);
-        result.put("creditsRequired", creditsRequired);
-        result.put("creditsRemaining", creditsRemaining);
-        result.put("completionPercentage", completion);
-        result.put("plannedThisSemester", enrollments.size());
-        result.put("maxCoursesReached", enrollments.size() >= 5);
-
-        return result;
-    }
-
-
-
-
-    // ----- helpers -----
-    private boolean overlap(CourseSection a, CourseSection b) {
-        if (a.getDayOfWeek() != b.getDayOfWeek()) return false;
-        return !(!a.getEndTime().isAfter(b.getStartTime())
-                || !b.getEndTime().isAfter(a.getStartTime()));
+    private List<LocalDate> eligibleDates(CourseSection section) {
+        Semester semester = section.getSemester();
+        List<LocalDate> meetings = activeSemester.find()
+                .filter(active -> active.id().equals(semester.getId()))
+                .map(active -> active.datesOn(section.getDayOfWeek()))
+                .orElseGet(() -> ActiveSemesterContext.ActiveSemester.weeklyDates(
+                        semester.getStartDate(), semester.getEndDate(), section.getDayOfWeek()));
+
+        return meetings.stream()
+                .filter(d -> seatInventory.remaining(section, d) > 0)
+                .toList();
     }
 
     private boolean hasSatisfiedPrerequisite(Long studentId, Long courseId) {
-        var course = courseRepo.findById(courseId).orElseThrow();
+        var course = Optional.ofNullable(referenceData.snapshot().courses().get(courseId)).orElseThrow();
         var prereq = course.getPrerequisite();
         if (prereq == null) return true;
 
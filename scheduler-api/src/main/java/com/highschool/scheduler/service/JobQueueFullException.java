@@ -0,0 +1,12 @@
+package com.highschool.scheduler.service;
+
+/**
+ * Thrown when a schedule generation job cannot be queued because the job queue is full.
+ * The request was valid; the server is busy and the caller should retry later.
+ */
+public class JobQueueFullException extends RuntimeException {
+
+    public JobQueueFullException(String message) {
+        super(message);
+    }
+}
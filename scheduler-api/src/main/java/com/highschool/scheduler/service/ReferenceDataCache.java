@@ -0,0 +1,219 @@
+package com.highschool.scheduler.service;
+
+import com.highschool.scheduler.model.Classroom;
+import com.highschool.scheduler.model.Course;
+import com.highschool.scheduler.model.CourseSection;
+import com.highschool.scheduler.model.RoomType;
+import com.highschool.scheduler.model.Semester;
+import com.highschool.scheduler.model.Specialization;
+import com.highschool.scheduler.model.Teacher;
+import com.highschool.scheduler.repository.ClassroomRepository;
+import com.highschool.scheduler.repository.CourseRepository;
+import com.highschool.scheduler.repository.RoomTypeRepository;
+import com.highschool.scheduler.repository.SemesterRepository;
+import com.highschool.scheduler.repository.TeacherRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Hibernate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Read-through cache of the scheduling reference data: courses, teachers, classrooms,
+ * specializations, room types and semesters.
+ * <p>
+ * These rows change at most once a term. The cache loads each table once, with the
+ * specializations and room types fetched alongside, links every course to its prerequisite
+ * among the loaded courses, and keeps the result as an immutable {@link Snapshot} indexed by id
+ * until it is invalidated. The cached entities are fully linked plain objects, so they can be
+ * read and serialized without a session. Schedule generation
+ * reloads the snapshot before it starts, and a replaced schedule drops it, so edits made to
+ * reference data in the database take effect at the next generation run or after
+ * {@link #invalidate()}.
+ * <p>
+ * The cached entities are detached and shared between threads; callers must not modify them.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReferenceDataCache {
+
+    private final CourseRepository courseRepo;
+    private final TeacherRepository teacherRepo;
+    private final ClassroomRepository classroomRepo;
+    private final RoomTypeRepository roomTypeRepo;
+    private final SemesterRepository semesterRepo;
+
+    private volatile Snapshot snapshot;
+
+    /**
+     * Returns the current snapshot, loading it from the database if there is none.
+     *
+     * @return the cached reference data
+     */
+    public Snapshot snapshot() {
+        Snapshot current = snapshot;
+        if (current != null) return current;
+        synchronized (this) {
+            if (snapshot == null) snapshot = load();
+            return snapshot;
+        }
+    }
+
+    /**
+     * Replaces the snapshot with a fresh load from the database.
+     *
+     * @return the newly loaded reference data
+     */
+    public synchronized Snapshot reload() {
+        snapshot = load();
+        return snapshot;
+    }
+
+    /**
+     * Drops the snapshot; the next read loads it again.
+     */
+    public synchronized void invalidate() {
+        snapshot = null;
+    }
+
+    /**
+     * Drops the snapshot once a schedule replacement has committed.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onScheduleReplaced(ScheduleReplacedEvent event) {
+        invalidate();
+    }
+
+    private Snapshot load() {
+        List<Course> courses = unproxied(courseRepo.findAll());
+        List<Teacher> teachers = unproxied(teacherRepo.findAll());
+        List<Classroom> classrooms = unproxied(classroomRepo.findAll());
+
+        Map<Long, RoomType> roomTypes = byId(unproxied(roomTypeRepo.findAll()), RoomType::getId);
+        Map<Long, Specialization> specializations = new LinkedHashMap<>();
+        Map<Long, Course> coursesById = byId(courses, Course::getId);
+        for (Course c : courses) {
+            c.setSpecialization(addSpecialization(c.getSpecialization(), specializations, roomTypes));
+            // The prerequisite is a lazy reference; only its id is read here
+            if (c.getPrerequisite() != null) {
+                c.setPrerequisite(coursesById.getOrDefault(c.getPrerequisite().getId(), c.getPrerequisite()));
+            }
+        }
+        for (Teacher t : teachers) {
+            t.setSpecialization(addSpecialization(t.getSpecialization(), specializations, roomTypes));
+        }
+        for (Classroom r : classrooms) {
+            r.setRoomType(addRoomType(r.getRoomType(), roomTypes));
+        }
+
+        Snapshot loaded = new Snapshot(coursesById, byId(teachers, Teacher::getId),
+                byId(classrooms, Classroom::getId), specializations, roomTypes,
+                byId(unproxied(semesterRepo.findAll()), Semester::getId));
+        log.info("Loaded reference data: {} courses, {} teachers, {} classrooms, {} semesters",
+                courses.size(), teachers.size(), classrooms.size(), loaded.semesters().size());
+        return loaded;
+    }
+
+    /**
+     * @return the instance to reference for that specialization; the first one seen for its id
+     */
+    private static Specialization addSpecialization(Specialization s, Map<Long, Specialization> specializations,
+                                                    Map<Long, RoomType> roomTypes) {
+        if (s == null) return null;
+        Specialization loaded = Hibernate.unproxy(s, Specialization.class);
+        Specialization shared = specializations.putIfAbsent(loaded.getId(), loaded);
+        if (shared != null) return shared;
+        loaded.setRoomType(addRoomType(loaded.getRoomType(), roomTypes));
+        return loaded;
+    }
+
+    private static RoomType addRoomType(RoomType t, Map<Long, RoomType> roomTypes) {
+        if (t == null) return null;
+        return roomTypes.computeIfAbsent(t.getId(), id -> Hibernate.unproxy(t, RoomType.class));
+    }
+
+    /**
+     * The entities behind any Hibernate proxies. A query returns the proxy instead of a plain
+     * entity when the session already holds one for that row, e.g. from a lazy reference.
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> List<T> unproxied(List<T> rows) {
+        return rows.stream().map(row -> (T) Hibernate.unproxy(row)).toList();
+    }
+
+    private static <T> Map<Long, T> byId(List<T> rows, Function<T, Long> id) {
+        Map<Long, T> map = new LinkedHashMap<>();
+        for (T row : rows) {
+            map.put(id.apply(row), row);
+        }
+        return map;
+    }
+
+    /**
+     * Immutable view of the reference data, each type indexed by id in database order.
+     */
+    public record Snapshot(Map<Long, Course> courses,
+                           Map<Long, Teacher> teachers,
+                           Map<Long, Classroom> classrooms,
+                           Map<Long, Specialization> specializations,
+                           Map<Long, RoomType> roomTypes,
+                           Map<Long, Semester> semesters) {
+
+        public Snapshot {
+            courses = Collections.unmodifiableMap(new LinkedHashMap<>(courses));
+            teachers = Collections.unmodifiableMap(new LinkedHashMap<>(teachers));
+            classrooms = Collections.unmodifiableMap(new LinkedHashMap<>(classrooms));
+            specializations = Collections.unmodifiableMap(new LinkedHashMap<>(specializations));
+            roomTypes = Collections.unmodifiableMap(new LinkedHashMap<>(roomTypes));
+            semesters = Collections.unmodifiableMap(new LinkedHashMap<>(semesters));
+        }
+
+        public List<Course> courseList() {
+            return List.copyOf(courses.values());
+        }
+
+        public List<Teacher> teacherList() {
+            return List.copyOf(teachers.values());
+        }
+
+        public List<Classroom> classroomList() {
+            return List.copyOf(classrooms.values());
+        }
+
+        /**
+         * @param semesterOrder 1 for Fall, 2 for Spring
+         * @return the courses taught in that half of the year
+         */
+        public List<Course> coursesForSemesterOrder(int semesterOrder) {
+            return courses.values().stream().filter(c -> c.getSemesterOrder() == semesterOrder).toList();
+        }
+
+        public Optional<Semester> activeSemester() {
+            return semesters.values().stream().filter(Semester::isActive).findFirst();
+        }
+
+        /**
+         * Points a section's course, teacher, classroom and semester at the cached instances, so
+         * that it can be read and serialized without loading them, also after its session has
+         * closed. References to rows the snapshot does not hold are left as they are.
+         *
+         * @param section a section loaded from the database
+         * @return the same section
+         */
+        public CourseSection link(CourseSection section) {
+            section.setCourse(courses.getOrDefault(section.getCourse().getId(), section.getCourse()));
+            section.setTeacher(teachers.getOrDefault(section.getTeacher().getId(), section.getTeacher()));
+            section.setClassroom(classrooms.getOrDefault(section.getClassroom().getId(), section.getClassroom()));
+            section.setSemester(semesters.getOrDefault(section.getSemester().getId(), section.getSemester()));
+            return section;
+        }
+    }
+}
@@ -1,84 +1,92 @@
 package com.highschool.scheduler.service;
 
+import com.highschool.scheduler.dto.GeneratedSchedule;
+import com.highschool.scheduler.dto.GenerationOptions;
 import com.highschool.scheduler.dto.ScheduleEventDTO;
 import com.highschool.scheduler.model.Classroom;
 import com.highschool.scheduler.model.Course;
 import com.highschool.scheduler.model.CourseSection;
 import com.highschool.scheduler.model.Semester;
 import com.highschool.scheduler.model.Teacher;
-import com.highschool.scheduler.repository.ClassroomRepository;
-import com.highschool.scheduler.repository.CourseRepository;
 import com.highschool.scheduler.repository.CourseSectionRepository;
-import com.highschool.scheduler.repository.SemesterRepository;
 import com.highschool.scheduler.repository.StudentCourseHistoryRepository;
 import com.highschool.scheduler.repository.StudentRepository;
 import com.highschool.scheduler.repository.StudentSectionEnrollmentRepository;
-import com.highschool.scheduler.repository.TeacherRepository;
 import com.highschool.scheduler.service.util.CourseEligibilityCalculator;
+import com.highschool.scheduler.service.util.GenerationProgress;
+import com.highschool.scheduler.service.util.PlacementRules;
+import com.highschool.scheduler.service.util.RoomUsageIndex;
+import com.highschool.scheduler.service.util.ScheduleDraft;
+import com.highschool.scheduler.service.util.ScheduleObjective;
+import com.highschool.scheduler.service.util.ScheduleScore;
+import com.highschool.scheduler.service.util.ScheduleSolver;
 import com.highschool.scheduler.service.util.SchedulerUtils;
+import com.highschool.scheduler.service.util.SlotBalanceReconciler;
+import com.highschool.scheduler.service.util.SlotGrid;
+import com.highschool.scheduler.service.util.SlotLoadQueue;
 import com.highschool.scheduler.service.util.TeacherLoadTracker;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.DayOfWeek;
+import java.time.Duration;
 import java.time.LocalTime;
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.TreeMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.random.RandomGenerator;
 import java.util.stream.Collectors;
 
 
+@Slf4j
 @Service
 public class ScheduleGeneratorService {
 
     private static final int ROOM_CAPACITY = 10;
     private static final int TEACHER_MAX_DAILY_HOURS = 4;
 
-    private static final DayOfWeek[] DAYS = {
-            DayOfWeek.MONDAY, DayOfWeek.TUESDAY, DayOfWeek.WEDNESDAY,
-            DayOfWeek.THURSDAY, DayOfWeek.FRIDAY
-    };
-
-    private static final List<LocalTime> SLOTS = List.of(
-            LocalTime.of(9, 0),
-            LocalTime.of(10, 0),
-            LocalTime.of(11, 0),
-            LocalTime.of(13, 0), // skip lunch
-            LocalTime.of(14, 0),
-            LocalTime.of(15, 0),
-            LocalTime.of(16, 0)
-    );
-
-    private final CourseRepository courseRepository;
-    private final TeacherRepository teacherRepository;
-    private final ClassroomRepository classroomRepository;
-    private final SemesterRepository semesterRepository;
+    private static final SlotGrid GRID = SlotGrid.STANDARD;
+    private static final PlacementRules RULES = new PlacementRules(GRID, TEACHER_MAX_DAILY_HOURS);
+
+    private final ReferenceDataCache referenceData;
+    private final ActiveSemesterContext activeSemester;
     private final CourseSectionRepository courseSectionRepository;
     private final StudentRepository studentRepository;
     private final StudentCourseHistoryRepository studentCourseHistoryRepository;
     private final StudentSectionEnrollmentRepository studentSectionEnrollmentRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
-     * Constructs the ScheduleGeneratorService with required repositories.
+     * Constructs the ScheduleGeneratorService with the reference data cache, the active
+     * semester, required repositories, the template used for the final write transaction of a generation run,
+     * and the publisher that announces a replaced schedule.
      */
-    public ScheduleGeneratorService(CourseRepository courseRepo,
-                                    TeacherRepository teacherRepo,
-                                    ClassroomRepository classroomRepo,
-                                    SemesterRepository semesterRepo,
+    public ScheduleGeneratorService(ReferenceDataCache referenceData,
+                                    ActiveSemesterContext activeSemester,
                                     CourseSectionRepository sectionRepo,
                                     StudentRepository studentRepo,
                                     StudentCourseHistoryRepository historyRepo,
-                                    StudentSectionEnrollmentRepository studentEnrollmentRepo) {
-        this.courseRepository = courseRepo;
-        this.teacherRepository = teacherRepo;
-        this.classroomRepository = classroomRepo;
-        this.semesterRepository = semesterRepo;
+                                    StudentSectionEnrollmentRepository studentEnrollmentRepo,
+                                    TransactionTemplate transactionTemplate,
+                                    ApplicationEventPublisher eventPublisher) {
+        this.referenceData = referenceData;
+        this.activeSemester = activeSemester;
         this.courseSectionRepository = sectionRepo;
         this.studentRepository = studentRepo;
         this.studentCourseHistoryRepository = historyRepo;
         this.studentSectionEnrollmentRepository = studentEnrollmentRepo;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
     }
 
     /**
@@ -86,22 +94,85 @@ public class ScheduleGeneratorService {
      * Deletes previous sections, creates new ones, and returns events for the UI.
      * @return List of scheduled events (DTOs).
      */
-    @Transactional
     public List<ScheduleEventDTO> generateForActiveSemester() {
-        Semester semester = semesterRepository.findByIsActiveTrue()
-                .orElseThrow(() -> new IllegalStateException("No active semester found"));
+        return generateForActiveSemester(GenerationOptions.DEFAULT).events();
+    }
 
-        // Remove existing course sections for active semester
-        courseSectionRepository.deleteAllByActiveSemester();
+    /**
+     * Generates a balanced schedule for the active semester, scheduling each room type
+     * on its own fork-join worker. Room types never share rooms or teachers, so every
+     * partition runs with its own occupancy state; the merged result is then passed
+     * through a deterministic slot-balance reconciliation.
+     * @return List of scheduled events (DTOs).
+     */
+    public List<ScheduleEventDTO> generateForActiveSemesterInParallel() {
+        return generateForActiveSemester(new GenerationOptions(true, 1, Duration.ZERO, null)).events();
+    }
+
+    /**
+     * Generates a schedule for the active semester with the given options.
+     * The greedy (or parallel) pass produces a draft, or the best of several seeded
+     * attempts when more than one is requested; if an optimize budget is set,
+     * the draft is then improved by {@link ScheduleSolver} before anything is saved.
+     * <p>
+     * Every random tie-break is drawn from a single {@link SplittableRandom} seeded from
+     * {@code options.seed()}, or from a fresh seed that is logged and returned. The same seed
+     * on the same data reproduces the same greedy schedule; the optimizer's result also
+     * depends on how many iterations fit in its time budget.
+     * @param options how to generate the schedule.
+     * @return the seed used and the scheduled events (DTOs).
+     */
+    public GeneratedSchedule generateForActiveSemester(GenerationOptions options) {
+        return generateForActiveSemester(options, new GenerationProgress());
+    }
+
+    /**
+     * Generates a schedule for the active semester, reporting to {@code progress} as it goes.
+     * <p>
+     * Reference data is reloaded up front, so edits made since the last run are picked up, and
+     * the schedule is computed in memory without holding a transaction. Deleting the semester's
+     * previous sections and saving the new ones happen together in one short write transaction
+     * at the end, so the old schedule stays in place until the new one replaces it.
+     * Cancellation is honoured up to that point.
+     * @param options how to generate the schedule.
+     * @param progress where to report progress and read cancellation from.
+     * @return the seed used and the scheduled events (DTOs).
+     * @throws java.util.concurrent.CancellationException if cancelled before saving.
+     */
+    public GeneratedSchedule generateForActiveSemester(GenerationOptions options, GenerationProgress progress) {
+        long seed = options.seed() != null ? options.seed() : new SplittableRandom().nextLong();
+        log.info("Generating schedule with seed {}", seed);
+        progress.phase(GenerationProgress.Phase.GENERATING);
+
+        ReferenceDataCache.Snapshot reference = referenceData.reload();
+        ActiveSemesterContext.ActiveSemester active = activeSemester.require();
+        Semester semester = active.semester();
 
         // Fetch only courses belonging to active semester order
-        List<Course> courses = courseRepository.findBySemesterOrder(semester.getOrderInYear());
-        if (courses.isEmpty()) return List.of();
+        List<Course> courses = reference.coursesForSemesterOrder(semester.getOrderInYear());
+        List<CourseSection> courseSections = courses.isEmpty()
+                ? List.of()
+                : generateDraft(options, reference, courses, semester, seed, progress).sections();
+
+        progress.checkCancelled();
+        progress.phase(GenerationProgress.Phase.SAVING);
+        List<CourseSection> savedCourseSections = transactionTemplate.execute(status -> {
+            // Replace the existing course sections for active semester
+            courseSectionRepository.deleteAllBySemesterId(active.id());
+            return courseSectionRepository.insertAll(courseSections);
+        });
+        eventPublisher.publishEvent(new ScheduleReplacedEvent(active.id()));
+        progress.phase(GenerationProgress.Phase.DONE);
+        return new GeneratedSchedule(seed, savedCourseSections.stream().map(this::modelToDto).toList());
+    }
 
-        List<Teacher> teachers = teacherRepository.findAll();
-        List<Classroom> rooms = classroomRepository.findAll();
+    /**
+     * Builds the schedule for the given courses in memory: greedy generation, then the optional optimizer.
+     */
+    private ScheduleDraft generateDraft(GenerationOptions options, ReferenceDataCache.Snapshot reference, List<Course> courses, Semester semester, long seed, GenerationProgress progress) {
+        List<Teacher> teachers = reference.teacherList();
+        List<Classroom> rooms = reference.classroomList();
         CourseEligibilityCalculator courseEligibilityCalculator = new CourseEligibilityCalculator(studentRepository.findAll(), studentCourseHistoryRepository.findAll());
-        TeacherLoadTracker load = new TeacherLoadTracker();
 
         Map<Long, List<Teacher>> teachersBySpec = teachers.stream()
                 .filter(t -> t.getSpecialization() != null)
@@ -111,13 +182,27 @@ public class ScheduleGeneratorService {
                 .filter(r -> r.getRoomType() != null)
                 .collect(Collectors.groupingBy(r -> r.getRoomType().getId()));
 
-
-        Map<String, Integer> globalSlotLoad = initializeGlobalSlotLoad();
-
-
-        List<CourseSection> courseSections = generateCourseSections(courses, courseEligibilityCalculator, teachersBySpec, roomsByType, load, semester, globalSlotLoad);
-        List<CourseSection> savedCourseSections = courseSectionRepository.saveAll(courseSections);
-        return savedCourseSections.stream().map(this::modelToDto).toList();
+        SplittableRandom random = new SplittableRandom(seed);
+        progress.totalCourses(Math.multiplyExact(courses.size(), options.attempts()));
+
+        ScheduleDraft draft = options.attempts() > 1
+                ? generateBestOfAttempts(options, courses, courseEligibilityCalculator, teachersBySpec, roomsByType, semester, random, progress)
+                : generateDraft(options.parallel(), courses, courseEligibilityCalculator, teachersBySpec, roomsByType, semester, random, progress);
+
+        ScheduleSolver solver = new ScheduleSolver(RULES, ScheduleObjective.balanced(), teachersBySpec);
+        progress.unplacedHours(draft.totalUnplacedHours());
+        progress.score(solver.cost(draft));
+
+        if (!options.optimizeBudget().isZero()) {
+            progress.checkCancelled();
+            progress.phase(GenerationProgress.Phase.OPTIMIZING);
+            ScheduleSolver.Result outcome = solver.improve(draft, options.optimizeBudget(), Long.MAX_VALUE, random, progress);
+            progress.unplacedHours(outcome.unplacedHours());
+            log.info("Optimizer: cost {} -> {} after {} iterations ({} moves), {} hours unplaced.",
+                    outcome.initialCost(), outcome.finalCost(), outcome.iterations(),
+                    outcome.acceptedMoves(), outcome.unplacedHours());
+        }
+        return draft;
     }
 
     /**
@@ -125,16 +210,147 @@ public class ScheduleGeneratorService {
      */
     @Transactional
     public void resetSchedule() {
-        studentSectionEnrollmentRepository.deleteAllByActiveSemester();
-        courseSectionRepository.deleteAllByActiveSemester();
+        activeSemester.find().ifPresent(active -> {
+            studentSectionEnrollmentRepository.deleteAllBySemesterId(active.id());
+            courseSectionRepository.deleteAllBySemesterId(active.id());
+            eventPublisher.publishEvent(new ScheduleReplacedEvent(active.id()));
+        });
         System.out.println(" Cleared course sections and enrollments for active semester only.");
     }
 
     /**
-     * Clears all course sections and enrollments for the active semester.
+     * Returns every scheduled section, read as flat rows rather than entities.
      */
     public List<ScheduleEventDTO> getSchedule() {
-        return courseSectionRepository.findAll().stream().map(this::modelToDto).collect(Collectors.toList());
+        return courseSectionRepository.findScheduledSections().stream()
+                .map(r -> new ScheduleEventDTO(
+                        r.sectionId(),
+                        r.dayOfWeek(),
+                        r.startTime(),
+                        r.endTime(),
+                        r.courseCode(),
+                        r.courseName(),
+                        r.teacherFirstName() + " " + r.teacherLastName(),
+                        r.roomName(),
+                        null
+                ))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Runs one greedy generation, sequential or partitioned by room type.
+     */
+    private ScheduleDraft generateDraft(boolean parallel, List<Course> courses, CourseEligibilityCalculator demand, Map<Long, List<Teacher>> teachersBySpec, Map<Long, List<Classroom>> roomsByType, Semester semester, SplittableRandom random, GenerationProgress progress) {
+        return parallel
+                ? generatePartitionsInParallel(courses, demand, teachersBySpec, roomsByType, semester, random, progress)
+                : generateCourseSections(courses, demand, teachersBySpec, roomsByType, semester, random, progress);
+    }
+
+    /**
+     * Runs independent greedy attempts on the common fork-join pool and keeps the best-scoring one.
+     * Each attempt has its own draft and a random generator split off {@code random} in attempt order.
+     * Attempts run in waves of the pool's parallelism and each result is folded into the running best
+     * as it is joined, so at most one wave of drafts and the best so far are held at a time.
+     * Once an attempt reaches a perfect {@link ScheduleScore}, attempts after it are skipped; attempts
+     * before it always run and ties go to the earlier attempt, so the choice only depends on the seed.
+     * @return the best draft (not saved yet).
+     */
+    private ScheduleDraft generateBestOfAttempts(GenerationOptions options, List<Course> courses, CourseEligibilityCalculator demand, Map<Long, List<Teacher>> teachersBySpec, Map<Long, List<Classroom>> roomsByType, Semester semester, SplittableRandom random, GenerationProgress progress) {
+        List<SplittableRandom> randoms = new ArrayList<>(options.attempts());
+        for (int i = 0; i < options.attempts(); i++) randoms.add(random.split());
+
+        AtomicInteger firstPerfect = new AtomicInteger(Integer.MAX_VALUE);
+        int wave = Math.max(1, ForkJoinPool.getCommonPoolParallelism());
+        Attempt best = null;
+        int completed = 0;
+        for (int start = 0; start < options.attempts() && start <= firstPerfect.get(); start += wave) {
+            List<ForkJoinTask<Attempt>> tasks = new ArrayList<>(wave);
+            for (int i = start; i < Math.min(start + wave, options.attempts()); i++) {
+                int index = i;
+                SplittableRandom attemptRandom = randoms.get(i);
+                tasks.add(ForkJoinPool.commonPool().submit(() -> {
+                    if (index > firstPerfect.get()) return null;
+                    ScheduleDraft draft = generateDraft(options.parallel(), courses, demand, teachersBySpec, roomsByType, semester, attemptRandom, progress);
+                    ScheduleScore score = ScheduleScore.of(draft, teachersBySpec);
+                    if (score.isPerfect()) firstPerfect.accumulateAndGet(index, Math::min);
+                    return new Attempt(index, draft, score);
+                }));
+            }
+            for (ForkJoinTask<Attempt> task : tasks) {
+                Attempt attempt = task.join();
+                if (attempt == null) continue;
+                completed++;
+                log.debug("Attempt {}: {}", attempt.index(), attempt.score());
+                if (best == null || attempt.score().compareTo(best.score()) < 0) best = attempt;
+            }
+        }
+        log.info("Kept attempt {} of {} ({} run): {}", best.index(), options.attempts(), completed, best.score());
+        return best.draft();
+    }
+
+    /**
+     * One scored greedy attempt of {@link #generateBestOfAttempts}.
+     */
+    private record Attempt(int index, ScheduleDraft draft, ScheduleScore score) {
+    }
+
+    /**
+     * Generates course sections for the given courses with a single occupancy state
+     * covering every room pool.
+     */
+    private ScheduleDraft generateCourseSections(List<Course> courses, CourseEligibilityCalculator demand, Map<Long, List<Teacher>> teachersBySpec, Map<Long, List<Classroom>> roomsByType, Semester semester, RandomGenerator random, GenerationProgress progress) {
+        ScheduleDraft draft = newDraft(roomsByType, semester);
+        generateCourseSections(courses, demand, teachersBySpec, draft, random, progress);
+        return draft;
+    }
+
+    /**
+     * Creates an empty draft with a fresh tracker and one room pool per room type.
+     */
+    private static ScheduleDraft newDraft(Map<Long, List<Classroom>> roomsByType, Semester semester) {
+        TeacherLoadTracker load = new TeacherLoadTracker(GRID);
+        Map<Long, RoomUsageIndex> roomPoolsByType = new HashMap<>();
+        roomsByType.forEach((typeId, pool) -> roomPoolsByType.put(typeId, load.addRoomPool(pool)));
+        return new ScheduleDraft(semester, new ArrayList<>(), load, new SlotLoadQueue(GRID), roomPoolsByType);
+    }
+
+    /**
+     * Generates course sections with one fork-join task per room type.
+     * Each partition gets its own tracker, slot load and a random generator split off
+     * {@code random} in room-type order, and partitions are merged in that same order,
+     * so the outcome only depends on the seed.
+     * @return the merged draft (not saved yet).
+     */
+    private ScheduleDraft generatePartitionsInParallel(List<Course> courses, CourseEligibilityCalculator demand, Map<Long, List<Teacher>> teachersBySpec, Map<Long, List<Classroom>> roomsByType, Semester semester, SplittableRandom random, GenerationProgress progress) {
+        Map<Long, List<Course>> coursesByRoomType = courses.stream()
+                .collect(Collectors.groupingBy(c -> c.getSpecialization().getRoomType().getId(),
+                        TreeMap::new, Collectors.toList()));
+
+        List<ForkJoinTask<ScheduleDraft>> partitions = new ArrayList<>();
+        coursesByRoomType.forEach((typeId, partitionCourses) -> {
+            SplittableRandom partitionRandom = random.split();
+            Map<Long, List<Classroom>> partitionRooms = Map.of(typeId, roomsByType.getOrDefault(typeId, List.of()));
+            partitions.add(ForkJoinPool.commonPool().submit(() -> generateCourseSections(
+                    partitionCourses, demand, teachersBySpec, partitionRooms, semester, partitionRandom, progress)));
+        });
+
+        // Partitions balanced slots only among themselves; merge and even out the school-wide load
+        ScheduleDraft merged = newDraft(roomsByType, semester);
+        for (ForkJoinTask<ScheduleDraft> partition : partitions) {
+            ScheduleDraft draft = partition.join();
+            for (CourseSection section : draft.sections()) {
+                int cell = GRID.bit(section.getDayOfWeek(), section.getStartTime());
+                int hours = section.getEndTime().getHour() - section.getStartTime().getHour();
+                RULES.occupy(merged.load(), section.getTeacher().getId(), section.getClassroom().getId(), cell, hours, true);
+                merged.slotLoad().add(cell, hours);
+                merged.sections().add(section);
+            }
+            draft.unplacedHours().forEach(merged::addUnplacedHours);
+        }
+        int moves = new SlotBalanceReconciler(merged.load(), merged.slotLoad(), RULES).reconcile(merged.sections());
+        log.info("Generated {} sections across {} room-type partitions; reconciliation moved {}.",
+                merged.sections().size(), partitions.size(), moves);
+        return merged;
     }
 
     /**
@@ -142,16 +358,14 @@ public class ScheduleGeneratorService {
      * @param courses List of courses to schedule.
      * @param demand CourseEligibilityCalculator for demand estimation.
      * @param teachersBySpec Map of specialization to available teachers.
-     * @param roomsByType Map of room type to available classrooms.
-     * @param load TeacherLoadTracker for load balancing.
-     * @param semester The semester entity.
-     * @param globalSlotLoad Map tracking slot usage for balancing.
-     * @return List of scheduled CourseSection entities (not saved yet).
+     * @param draft The draft receiving the sections and any unplaced hours.
+     * @param random Source of randomness for tie-breaking.
+     * @param progress Progress to report each finished course to; checked for cancellation between courses.
      */
-    private List<CourseSection> generateCourseSections(List<Course> courses, CourseEligibilityCalculator demand, Map<Long, List<Teacher>> teachersBySpec, Map<Long, List<Classroom>> roomsByType, TeacherLoadTracker load, Semester semester, Map<String, Integer> globalSlotLoad) {
-        int weeksInSemester = calculateWeeksInSemester(semester);
-        List<CourseSection> result = new ArrayList<>();
+    private void generateCourseSections(List<Course> courses, CourseEligibilityCalculator demand, Map<Long, List<Teacher>> teachersBySpec, ScheduleDraft draft, RandomGenerator random, GenerationProgress progress) {
+        int weeksInSemester = calculateWeeksInSemester(draft.semester());
         courses.forEach(course -> {
+            progress.checkCancelled();
             int eligibleStudentsCount = demand.eligibleStudentsCount(course);
             int sectionsNeeded = Math.max(1,
                     (int) Math.ceil((double) eligibleStudentsCount / (ROOM_CAPACITY * weeksInSemester)));
@@ -160,46 +374,39 @@ public class ScheduleGeneratorService {
                 throw new IllegalStateException("hoursPerWeek needs to be increased for course - " + course.getName());
             }
 
-            assignBalancedCourseSectionSchedule(course,   load, result,
-                    teachersBySpec, roomsByType, globalSlotLoad, semester);
+            assignBalancedCourseSectionSchedule(course, draft, teachersBySpec, random);
+            progress.courseFinished(draft.unplacedHours().getOrDefault(course, 0));
         });
-        return result;
     }
 
     /**
      * Schedules course sections in a balanced way across timeslots, teachers, and rooms.
+     * Hours that cannot be placed are recorded in the draft.
      * @param course The course to schedule.
-     * @param load The teacher load tracker.
-     * @param result A list to collect created CourseSections.
+     * @param draft The draft collecting created CourseSections and their occupancy.
      * @param teachersBySpec Map of specialization to teachers.
-     * @param roomsByType Map of room type to classrooms.
-     * @param globalSlotLoad Map tracking slot usage.
-     * @param semester The semester entity.
+     * @param random Source of randomness for tie-breaking.
      */
     private void assignBalancedCourseSectionSchedule(
             Course course,
-            TeacherLoadTracker load,
-            List<CourseSection> result,
+            ScheduleDraft draft,
             Map<Long, List<Teacher>> teachersBySpec,
-            Map<Long, List<Classroom>> roomsByType,
-            Map<String, Integer> globalSlotLoad,
-            Semester semester
+            RandomGenerator random
     ) {
+        TeacherLoadTracker load = draft.load();
+        SlotLoadQueue slotLoad = draft.slotLoad();
         int remainingHours = course.getHoursPerWeek();
+        int[] bestCells = new int[GRID.size()];
 
         while (remainingHours > 0) {
-            int minUsage = globalSlotLoad.values().stream().min(Integer::compareTo).orElse(0);
-
-            List<String> bestSlotKeys = globalSlotLoad.entrySet().stream()
-                    .filter(e -> e.getValue() == minUsage)
-                    .map(Map.Entry::getKey)
-                    .collect(Collectors.toList());
-            Collections.shuffle(bestSlotKeys); // Randomize among equally-used slots, else if best teacher and room alloation gets occpuied, it might end in an endless loop
+            // Randomize among equally-used slots, else if best teacher and room alloation gets occpuied, it might end in an endless loop
+            int candidates = slotLoad.shuffledMinLoadCells(bestCells, random);
 
             boolean placed = false;
-            for (String slotKey : bestSlotKeys) {
-                DayOfWeek day = DayOfWeek.valueOf(slotKey.split("\\|")[0]);
-                LocalTime slot = LocalTime.parse(slotKey.split("\\|")[1]);
+            for (int c = 0; c < candidates; c++) {
+                int cell = bestCells[c];
+                DayOfWeek day = GRID.day(GRID.dayOfBit(cell));
+                LocalTime slot = GRID.slot(GRID.slotOfBit(cell));
 
                 //  Find least-loaded available teachers for this slot
                 List<Teacher> teacherPool = teachersBySpec.get(course.getSpecialization().getId());
@@ -211,23 +418,18 @@ public class ScheduleGeneratorService {
                         .toList();
                 if (availableTeachers.isEmpty()) continue;
 
-                Teacher altTeacher = SchedulerUtils.pickLeastLoadedTeacher(load, availableTeachers);
+                Teacher altTeacher = SchedulerUtils.pickLeastLoadedTeacher(load, availableTeachers, random);
 
-                //  Find least-used available rooms for this slot
-                List<Classroom> roomPool = roomsByType.get(course.getSpecialization().getRoomType().getId());
-                if (roomPool == null || roomPool.isEmpty()) continue;
-                List<Classroom> availableRooms = roomPool.stream()
-                        .filter(r -> !load.isRoomBusy(r.getId(), day, slot))
-                        .toList();
-                if (availableRooms.isEmpty()) continue;
-
-                Classroom altRoom = SchedulerUtils.pickLeastUsedRoom(availableRooms, result);
+                //  Find the least-used room that is free in this slot
+                RoomUsageIndex roomPool = draft.roomPoolsByType().get(course.getSpecialization().getRoomType().getId());
+                if (roomPool == null) continue;
+                Classroom altRoom = roomPool.pickLeastUsedFree(cell, random);
+                if (altRoom == null) continue;
 
                 // 4. Can we do a 2-hour block?
                 boolean canTryTwoHours =
                         remainingHours >= 2
-                                && slot.getHour() != 11
-                                && slot.getHour() < 16
+                                && GRID.isContiguousBlock(cell, 2)
                                 && !load.isTeacherBusy(altTeacher.getId(), day, slot.plusHours(1))
                                 && !load.isRoomBusy(altRoom.getId(), day, slot.plusHours(1))
                                 && !load.wouldExceedConsecutiveHours(altTeacher.getId(), day, slot, 2);
@@ -236,18 +438,19 @@ public class ScheduleGeneratorService {
                 if (!canTryTwoHours &&
                         load.wouldExceedConsecutiveHours(altTeacher.getId(), day, slot, 1)) continue;
 
-                createCourseSection(course, result, semester, altTeacher, altRoom, day, slot, duration);
+                createCourseSection(course, draft.sections(), draft.semester(), altTeacher, altRoom, day, slot, duration);
 
                 for (int h = 0; h < duration; h++) {
                     load.markPlaced(altTeacher.getId(), altRoom.getId(), day, slot.plusHours(h));
                 }
-                globalSlotLoad.merge(slotKey, duration, Integer::sum);
+                slotLoad.add(cell, duration);
                 remainingHours -= duration;
                 placed = true;
                 break;
             }
             if (!placed) {
                 System.err.println("Could not schedule all hours for course: " + course.getName());
+                draft.addUnplacedHours(course, remainingHours);
                 break;
             }
         }
@@ -269,19 +472,6 @@ public class ScheduleGeneratorService {
     }
 
 
-    /**
-     * Initializes the global slot load map (day, time -> usage count).
-     */
-    private static Map<String, Integer> initializeGlobalSlotLoad() {
-        Map<String, Integer> globalSlotLoad = new HashMap<>();
-        for (DayOfWeek d : DAYS) {
-            for (LocalTime t : SLOTS) {
-                globalSlotLoad.put(d + "|" + t, 0);
-            }
-        }
-        return globalSlotLoad;
-    }
-
     /**
      * Calculates the number of weeks in a semester.
      * @param semester The semester entity.
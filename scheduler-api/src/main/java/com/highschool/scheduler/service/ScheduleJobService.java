@@ -0,0 +1,256 @@
+package com.highschool.scheduler.service;
+
+import com.highschool.scheduler.dto.GeneratedSchedule;
+import com.highschool.scheduler.dto.GenerationOptions;
+import com.highschool.scheduler.dto.ScheduleJobDTO;
+import com.highschool.scheduler.service.util.GenerationProgress;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs schedule generation as background jobs so callers do not hold a request open.
+ * <p>
+ * Jobs run one at a time on a dedicated worker with a bounded queue; submissions
+ * beyond the queue are rejected. Progress can be polled or streamed over SSE, and a
+ * job can be cancelled until it starts saving. Finished jobs are kept in memory
+ * for a while so their result can still be read.
+ */
+@Slf4j
+@Service
+public class ScheduleJobService {
+
+    private static final int MAX_RETAINED_JOBS = 50;
+    private static final long STREAM_TIMEOUT_MS = TimeUnit.MINUTES.toMillis(30);
+
+    private final ScheduleGeneratorService scheduleGeneratorService;
+    private final ThreadPoolExecutor worker;
+    private final ScheduledExecutorService ticker;
+    private final long streamIntervalMs;
+    private final Map<String, Job> jobs = new LinkedHashMap<>();
+
+    public ScheduleJobService(ScheduleGeneratorService scheduleGeneratorService,
+                              @Value("${scheduler.jobs.queue-capacity:4}") int queueCapacity,
+                              @Value("${scheduler.jobs.progress-interval-ms:500}") long streamIntervalMs) {
+        this.scheduleGeneratorService = scheduleGeneratorService;
+        this.streamIntervalMs = streamIntervalMs;
+        this.worker = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), daemon("schedule-job"));
+        this.ticker = Executors.newSingleThreadScheduledExecutor(daemon("schedule-job-progress"));
+    }
+
+    @PreDestroy
+    void shutdown() {
+        synchronized (this) {
+            jobs.values().forEach(job -> job.progress.requestCancel());
+        }
+        worker.shutdownNow();
+        ticker.shutdownNow();
+    }
+
+    /**
+     * Queues a generation job.
+     *
+     * @param options how to generate the schedule
+     * @return the job's initial status
+     * @throws JobQueueFullException if the job queue is full
+     */
+    public ScheduleJobDTO submit(GenerationOptions options) {
+        Job job = new Job(UUID.randomUUID().toString());
+        synchronized (this) {
+            evictFinishedJobs();
+            try {
+                job.future = worker.submit(() -> run(job, options));
+            } catch (RejectedExecutionException e) {
+                throw new JobQueueFullException("Too many schedule generation jobs queued; try again later");
+            }
+            jobs.put(job.id, job);
+        }
+        log.info("Queued schedule generation job {} ({})", job.id, options);
+        return job.snapshot();
+    }
+
+    /**
+     * @param id the job's ID
+     * @return the job's current status
+     * @throws NoSuchElementException if no such job is known
+     */
+    public ScheduleJobDTO status(String id) {
+        return find(id).snapshot();
+    }
+
+    /**
+     * Requests cancellation. A queued job is dropped; a running job stops at its next
+     * check, unless it has already started saving.
+     *
+     * @param id the job's ID
+     * @return the job's status after the request
+     * @throws NoSuchElementException if no such job is known
+     */
+    public ScheduleJobDTO cancel(String id) {
+        Job job = find(id);
+        job.progress.requestCancel();
+        if (job.status == Status.QUEUED && job.future.cancel(false)) {
+            job.finish(Status.CANCELLED);
+        }
+        return job.snapshot();
+    }
+
+    /**
+     * Streams the job's status as {@code progress} events until it finishes.
+     *
+     * @param id the job's ID
+     * @return an emitter sending a snapshot every progress interval
+     * @throws NoSuchElementException if no such job is known
+     */
+    public SseEmitter stream(String id) {
+        Job job = find(id);
+        SseEmitter emitter = new SseEmitter(STREAM_TIMEOUT_MS);
+        ProgressStream stream = new ProgressStream(job, emitter);
+        emitter.onCompletion(stream::stop);
+        emitter.onTimeout(stream::stop);
+        emitter.onError(e -> stream.stop());
+        stream.start();
+        return emitter;
+    }
+
+    private void run(Job job, GenerationOptions options) {
+        if (job.progress.isCancelRequested()) {
+            job.finish(Status.CANCELLED);
+            return;
+        }
+        job.status = Status.RUNNING;
+        try {
+            GeneratedSchedule result = scheduleGeneratorService.generateForActiveSemester(options, job.progress);
+            job.seed = result.seed();
+            job.sectionCount = result.events().size();
+            job.finish(Status.SUCCEEDED);
+            log.info("Schedule generation job {} saved {} sections", job.id, job.sectionCount);
+        } catch (CancellationException e) {
+            job.finish(Status.CANCELLED);
+            log.info("Schedule generation job {} cancelled", job.id);
+        } catch (RuntimeException e) {
+            job.error = e.getMessage();
+            job.finish(Status.FAILED);
+            log.warn("Schedule generation job {} failed", job.id, e);
+        }
+    }
+
+    private synchronized Job find(String id) {
+        Job job = jobs.get(id);
+        if (job == null) throw new NoSuchElementException("No schedule generation job " + id);
+        return job;
+    }
+
+    private void evictFinishedJobs() {
+        Iterator<Job> it = jobs.values().iterator();
+        while (jobs.size() >= MAX_RETAINED_JOBS && it.hasNext()) {
+            if (it.next().status.isFinished()) it.remove();
+        }
+    }
+
+    private static ThreadFactory daemon(String name) {
+        return runnable -> {
+            Thread thread = new Thread(runnable, name);
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private enum Status {
+        QUEUED, RUNNING, SUCCEEDED, FAILED, CANCELLED;
+
+        boolean isFinished() {
+            return this != QUEUED && this != RUNNING;
+        }
+    }
+
+    /**
+     * A submitted job; fields are written by the worker and read by request threads.
+     */
+    private static final class Job {
+        final String id;
+        final GenerationProgress progress = new GenerationProgress();
+        volatile Future<?> future;
+        volatile Status status = Status.QUEUED;
+        volatile Long seed;
+        volatile Integer sectionCount;
+        volatile String error;
+
+        Job(String id) {
+            this.id = id;
+        }
+
+        void finish(Status status) {
+            this.status = status;
+        }
+
+        ScheduleJobDTO snapshot() {
+            double score = progress.score();
+            return new ScheduleJobDTO(id, status.name(), progress.phase().name(),
+                    progress.coursesPlaced(), progress.totalCourses(), progress.unplacedHours(),
+                    Double.isNaN(score) ? null : score, seed, sectionCount, error);
+        }
+    }
+
+    /**
+     * Pushes a job's snapshot to one SSE subscriber on every tick of the shared ticker.
+     */
+    private final class ProgressStream implements Runnable {
+        private final Job job;
+        private final SseEmitter emitter;
+        private volatile ScheduledFuture<?> tick;
+        private volatile boolean stopped;
+
+        ProgressStream(Job job, SseEmitter emitter) {
+            this.job = job;
+            this.emitter = emitter;
+        }
+
+        void start() {
+            tick = ticker.scheduleAtFixedRate(this, 0, streamIntervalMs, TimeUnit.MILLISECONDS);
+            if (stopped) tick.cancel(false);
+        }
+
+        void stop() {
+            stopped = true;
+            ScheduledFuture<?> current = tick;
+            if (current != null) current.cancel(false);
+        }
+
+        @Override
+        public void run() {
+            if (stopped) return;
+            try {
+                boolean finished = job.status.isFinished();
+                emitter.send(SseEmitter.event().name("progress").data(job.snapshot()));
+                if (finished) {
+                    stop();
+                    emitter.complete();
+                }
+            } catch (IOException | IllegalStateException e) {
+                // The client went away or the emitter already completed
+                stop();
+            }
+        }
+    }
+}
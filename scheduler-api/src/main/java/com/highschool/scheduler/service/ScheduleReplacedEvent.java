@@ -0,0 +1,10 @@
+package com.highschool.scheduler.service;
+
+/**
+ * Published after the active semester's course sections have been replaced or cleared,
+ * so anything derived from the old sections can be dropped.
+ *
+ * @param semesterId the semester whose sections changed
+ */
+public record ScheduleReplacedEvent(Long semesterId) {
+}
@@ -0,0 +1,165 @@
+package com.highschool.scheduler.service;
+
+import com.highschool.scheduler.dto.SectionDateCount;
+import com.highschool.scheduler.model.CourseSection;
+import com.highschool.scheduler.repository.StudentSectionEnrollmentRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Seats taken per section and date, kept in memory and maintained on every enrollment, so
+ * capacity checks and the enrolled counts shown to students never aggregate enrollment rows.
+ * <p>
+ * Each tracked section holds a counter per date it has enrollments on and a running total.
+ * A seat is taken with a compare-and-set increment before the enrollment row is written and
+ * handed back if the surrounding transaction rolls back. All sections of the active semester
+ * are loaded with one grouped query at startup; any other section is loaded, all its dates at
+ * once, the first time it is asked for. Everything is dropped when the schedule is replaced
+ * or reset, since the sections themselves are.
+ */
+@Slf4j
+@Component
+public class SeatInventory {
+
+    private static final int IN_CLAUSE_CHUNK = 900;
+
+    private final StudentSectionEnrollmentRepository enrollRepo;
+    private final ActiveSemesterContext activeSemester;
+    private final ConcurrentHashMap<Long, Occupancy> sections = new ConcurrentHashMap<>();
+
+    public SeatInventory(StudentSectionEnrollmentRepository enrollRepo, ActiveSemesterContext activeSemester) {
+        this.enrollRepo = enrollRepo;
+        this.activeSemester = activeSemester;
+    }
+
+    /**
+     * Loads the counters of every section of the active semester.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        var active = activeSemester.find();
+        if (active.isEmpty()) return;
+        Map<Long, Occupancy> loaded = toOccupancy(enrollRepo.countBySectionAndDateForSemester(active.get().id()));
+        loaded.forEach(sections::putIfAbsent);
+        log.info("Seat inventory warmed with {} sections", loaded.size());
+    }
+
+    /**
+     * Loads the counters of those sections that are not tracked yet with one grouped query,
+     * so that reading or reserving their seats afterwards needs no query at all.
+     *
+     * @param sectionIds the sections about to be read
+     */
+    public void preload(Collection<Long> sectionIds) {
+        List<Long> missing = sectionIds.stream().distinct().filter(id -> !sections.containsKey(id)).toList();
+        for (int from = 0; from < missing.size(); from += IN_CLAUSE_CHUNK) {
+            List<Long> chunk = missing.subList(from, Math.min(missing.size(), from + IN_CLAUSE_CHUNK));
+            toOccupancy(enrollRepo.countBySectionAndDateForSections(chunk)).forEach(sections::putIfAbsent);
+        }
+    }
+
+    /**
+     * Takes one seat of the section on the given date if any is left. When called inside a
+     * transaction, the seat is returned automatically if that transaction does not commit.
+     *
+     * @param section the section to enroll in
+     * @param date    the enrollment date
+     * @return true if a seat was reserved, false if the section is full on that date
+     */
+    public boolean tryReserve(CourseSection section, LocalDate date) {
+        Occupancy occupancy = occupancy(section.getId());
+        AtomicInteger taken = occupancy.byDate.computeIfAbsent(date, d -> new AtomicInteger());
+        int capacity = section.getClassroom().getCapacity();
+        int current;
+        do {
+            current = taken.get();
+            if (current >= capacity) return false;
+        } while (!taken.compareAndSet(current, current + 1));
+        occupancy.total.incrementAndGet();
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status != STATUS_COMMITTED) {
+                        taken.decrementAndGet();
+                        occupancy.total.decrementAndGet();
+                    }
+                }
+            });
+        }
+        return true;
+    }
+
+    /**
+     * @return the number of seats still free in the section on the given date
+     */
+    public int remaining(CourseSection section, LocalDate date) {
+        return Math.max(0, section.getClassroom().getCapacity() - enrolled(section.getId(), date));
+    }
+
+    /**
+     * @return the number of students enrolled in the section on the given date
+     */
+    public int enrolled(Long sectionId, LocalDate date) {
+        AtomicInteger taken = occupancy(sectionId).byDate.get(date);
+        return taken == null ? 0 : taken.get();
+    }
+
+    /**
+     * @return the number of enrollments in the section over all its dates
+     */
+    public int enrolled(Long sectionId) {
+        return occupancy(sectionId).total.get();
+    }
+
+    /**
+     * Drops all counters; they are reloaded from the database on next use.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onScheduleReplaced(ScheduleReplacedEvent event) {
+        sections.clear();
+    }
+
+    private Occupancy occupancy(Long sectionId) {
+        Occupancy occupancy = sections.get(sectionId);
+        if (occupancy != null) return occupancy;
+        // Queried outside the map, like preload(); a counter loaded concurrently meanwhile wins
+        Occupancy loaded = toOccupancy(enrollRepo.countBySectionAndDateForSections(List.of(sectionId)))
+                .getOrDefault(sectionId, new Occupancy());
+        Occupancy existing = sections.putIfAbsent(sectionId, loaded);
+        return existing != null ? existing : loaded;
+    }
+
+    private static Map<Long, Occupancy> toOccupancy(List<SectionDateCount> counts) {
+        Map<Long, Occupancy> result = new HashMap<>();
+        for (SectionDateCount c : counts) {
+            Occupancy occupancy = result.computeIfAbsent(c.sectionId(), id -> new Occupancy());
+            if (c.date() == null) continue;
+            occupancy.byDate.put(c.date(), new AtomicInteger((int) c.enrolled()));
+            occupancy.total.addAndGet((int) c.enrolled());
+        }
+        return result;
+    }
+
+    /**
+     * Seats taken in one section, per date and in total.
+     */
+    private static final class Occupancy {
+        private final ConcurrentHashMap<LocalDate, AtomicInteger> byDate = new ConcurrentHashMap<>();
+        private final AtomicInteger total = new AtomicInteger();
+    }
+}
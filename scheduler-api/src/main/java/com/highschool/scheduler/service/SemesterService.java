@@ -2,7 +2,6 @@ package com.highschool.scheduler.service;
 
 
 import com.highschool.scheduler.model.Semester;
-import com.highschool.scheduler.repository.SemesterRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
@@ -10,9 +9,9 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class SemesterService {
 
-    private final SemesterRepository semesterRepository;
+    private final ActiveSemesterContext activeSemester;
 
     public Semester getActiveSemester() {
-        return semesterRepository.findByIsActiveTrue().orElseThrow(() -> new IllegalStateException("No active semester found"));
+        return activeSemester.require().semester();
     }
 }
@@ -0,0 +1,149 @@
+package com.highschool.scheduler.service;
+
+import com.highschool.scheduler.dto.StudentProgressDTO;
+import com.highschool.scheduler.dto.StudentProgressRow;
+import com.highschool.scheduler.repository.StudentRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Per-student progress summaries (GPA, credits, planned courses), kept in memory by student id.
+ * <p>
+ * A summary is built from one aggregate query the first time a student is asked for and is then
+ * served from the map. Enrollments adjust the cached summaries of their students when they
+ * commit, so a dashboard load never re-reads the history; a replaced schedule drops them all.
+ * Course history is seeded data the application never writes, so it only changes on reload.
+ */
+@Service
+@RequiredArgsConstructor
+public class StudentProgressService {
+
+    static final int CREDITS_REQUIRED = 30;
+
+    private final StudentRepository studentRepo;
+
+    private final Map<Long, StudentProgressDTO> summaries = new ConcurrentHashMap<>();
+    private long generation;
+    private int pendingWrites;
+
+    /**
+     * Returns the progress summary of one student.
+     *
+     * @param studentId the ID of the student
+     * @return the student's {@link StudentProgressDTO}
+     * @throws IllegalArgumentException if the student does not exist
+     */
+    public StudentProgressDTO get(Long studentId) {
+        StudentProgressDTO cached = summaries.get(studentId);
+        if (cached != null) return cached;
+
+        long seen = generation();
+        StudentProgressDTO loaded = studentRepo.findProgressRow(studentId)
+                .map(StudentProgressService::toProgress)
+                .orElseThrow(() -> new IllegalArgumentException(EnrollmentService.STUDENT_NOT_FOUND));
+        cache(List.of(loaded), seen);
+        return loaded;
+    }
+
+    /**
+     * Returns the progress summaries of every student in a grade level with one query,
+     * refreshing the cached summaries on the way.
+     *
+     * @param gradeLevel the grade level, e.g. 9
+     * @return one {@link StudentProgressDTO} per student, ordered by student id
+     */
+    public List<StudentProgressDTO> forGradeLevel(int gradeLevel) {
+        long seen = generation();
+        List<StudentProgressDTO> loaded = studentRepo.findProgressRowsByGradeLevel(gradeLevel).stream()
+                .map(StudentProgressService::toProgress)
+                .toList();
+        cache(loaded, seen);
+        return loaded;
+    }
+
+    /**
+     * Adds newly saved enrollments to the students' cached summaries once the surrounding
+     * transaction commits; nothing changes if it rolls back.
+     *
+     * @param added the number of new enrollments per student ID
+     */
+    public void recordEnrollments(Map<Long, Integer> added) {
+        if (added.isEmpty()) return;
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            apply(added);
+            return;
+        }
+        beginWrite();
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                endWrite(status == STATUS_COMMITTED ? added : Map.of());
+            }
+        });
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onScheduleReplaced(ScheduleReplacedEvent event) {
+        generation++;
+        summaries.clear();
+    }
+
+    private synchronized long generation() {
+        return generation;
+    }
+
+    /**
+     * Caches loaded summaries unless an enrollment was written, or is still being written,
+     * since loading started: the rows read may or may not include it.
+     */
+    private synchronized void cache(List<StudentProgressDTO> loaded, long seen) {
+        if (generation != seen || pendingWrites > 0) return;
+        loaded.forEach(p -> summaries.put(p.studentId(), p));
+    }
+
+    private synchronized void beginWrite() {
+        generation++;
+        pendingWrites++;
+    }
+
+    private synchronized void endWrite(Map<Long, Integer> added) {
+        pendingWrites--;
+        apply(added);
+    }
+
+    private synchronized void apply(Map<Long, Integer> added) {
+        generation++;
+        added.forEach((studentId, count) ->
+                summaries.computeIfPresent(studentId, (id, p) -> withPlanned(p, p.plannedThisSemester() + count)));
+    }
+
+    static StudentProgressDTO toProgress(StudentProgressRow row) {
+        double credits = row.creditsEarned();
+        double gpa = row.coursesGraded() == 0 ? 0.0 : 4.0 * row.coursesPassed() / row.coursesGraded();
+        return new StudentProgressDTO(
+                row.studentId(),
+                row.firstName() + " " + row.lastName(),
+                row.email(),
+                row.gradeLevel(),
+                gpa,
+                credits,
+                CREDITS_REQUIRED,
+                Math.max(0, CREDITS_REQUIRED - credits),
+                (credits / CREDITS_REQUIRED) * 100,
+                (int) row.enrollments(),
+                row.enrollments() >= EnrollmentService.MAX_COURSES_PER_SEMESTER);
+    }
+
+    private static StudentProgressDTO withPlanned(StudentProgressDTO p, int planned) {
+        return new StudentProgressDTO(p.studentId(), p.studentName(), p.email(), p.gradeLevel(), p.gpa(),
+                p.creditsEarned(), p.creditsRequired(), p.creditsRemaining(), p.completionPercentage(),
+                planned, planned >= EnrollmentService.MAX_COURSES_PER_SEMESTER);
+    }
+}
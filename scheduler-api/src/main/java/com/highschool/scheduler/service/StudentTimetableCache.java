@@ -0,0 +1,194 @@
+package com.highschool.scheduler.service;
+
+import com.highschool.scheduler.dto.EnrolledSlot;
+import com.highschool.scheduler.model.CourseSection;
+import com.highschool.scheduler.repository.StudentSectionEnrollmentRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Bounded cache of each student's enrolled timetable for a semester, used for time-conflict checks.
+ * <p>
+ * For every (date, day) a student has enrollments on, the occupied time is kept as a bitmap of
+ * half-hour slots in one {@code long}. A candidate section conflicts only if its own mask
+ * intersects that bitmap, so the common no-conflict case is a single AND; on a hit the few
+ * enrollments of that day are compared exactly to name the clash. Timetables are rebuilt
+ * with one query when a student is not cached and are kept least-recently-used.
+ */
+@Component
+public class StudentTimetableCache {
+
+    private static final int SLOT_MINUTES = 30;
+
+    private final StudentSectionEnrollmentRepository enrollRepo;
+    private final Map<TimetableKey, Timetable> timetables;
+    private long generation;
+
+    public StudentTimetableCache(StudentSectionEnrollmentRepository enrollRepo,
+                                 @Value("${scheduler.timetable-cache.max-students:10000}") int maxStudents) {
+        this.enrollRepo = enrollRepo;
+        this.timetables = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<TimetableKey, Timetable> eldest) {
+                return size() > maxStudents;
+            }
+        };
+    }
+
+    /**
+     * Finds the student's enrollments in the section's semester that meet at the same time
+     * as the section on the given date.
+     *
+     * @param studentId the student to check
+     * @param target    the section the student wants to join
+     * @param date      the enrollment date
+     * @return the clashing enrollments in enrollment order; empty if there is no conflict
+     */
+    public List<EnrolledSlot> findConflicts(Long studentId, CourseSection target, LocalDate date) {
+        Timetable timetable = timetable(studentId, target.getSemester().getId());
+        Day day = timetable.days.get(new DayKey(date, target.getDayOfWeek()));
+        long mask = mask(target.getStartTime(), target.getEndTime());
+        if (day == null || (day.occupied & mask) == 0) return List.of();
+
+        List<EnrolledSlot> conflicts = new ArrayList<>();
+        for (EnrolledSlot e : day.slots) {
+            if (e.endTime().isAfter(target.getStartTime()) && target.getEndTime().isAfter(e.startTime())) {
+                conflicts.add(e);
+            }
+        }
+        return conflicts;
+    }
+
+    /**
+     * Adds a new enrollment to the student's cached timetable, if it is cached, so later checks
+     * in the same transaction see it. Once the transaction completes the enrollment is applied
+     * again if it committed (a timetable loaded concurrently may have missed it), or the
+     * student's timetable is dropped if it rolled back.
+     */
+    public void recordEnrollment(EnrolledSlot slot) {
+        TimetableKey key = new TimetableKey(slot.studentId(), slot.semesterId());
+        apply(key, slot);
+        afterCompletion(committed -> {
+            if (committed) apply(key, slot);
+            else evict(Set.of(slot.studentId()));
+        });
+    }
+
+    /**
+     * Drops the cached timetables of the given students so they are rebuilt on next use, both
+     * now and when the surrounding transaction completes.
+     */
+    public void invalidate(Collection<Long> studentIds) {
+        Set<Long> ids = new HashSet<>(studentIds);
+        evict(ids);
+        afterCompletion(committed -> evict(ids));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onScheduleReplaced(ScheduleReplacedEvent event) {
+        generation++;
+        timetables.clear();
+    }
+
+    private Timetable timetable(Long studentId, Long semesterId) {
+        TimetableKey key = new TimetableKey(studentId, semesterId);
+        long seen;
+        synchronized (this) {
+            Timetable cached = timetables.get(key);
+            if (cached != null) return cached;
+            seen = generation;
+        }
+
+        Timetable loaded = new Timetable();
+        enrollRepo.findEnrolledSlots(studentId, semesterId).forEach(loaded::add);
+
+        synchronized (this) {
+            // A write committed while loading may be missing from what was read; don't cache it then
+            if (generation == seen) timetables.put(key, loaded);
+        }
+        return loaded;
+    }
+
+    private synchronized void apply(TimetableKey key, EnrolledSlot slot) {
+        generation++;
+        Timetable timetable = timetables.get(key);
+        if (timetable != null) timetable.add(slot);
+    }
+
+    private synchronized void evict(Set<Long> studentIds) {
+        generation++;
+        timetables.keySet().removeIf(k -> studentIds.contains(k.studentId()));
+    }
+
+    private static void afterCompletion(Consumer<Boolean> action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) return;
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                action.accept(status == STATUS_COMMITTED);
+            }
+        });
+    }
+
+    /**
+     * @return the half-hour slots of the day covered by [start, end), rounded outwards
+     */
+    static long mask(LocalTime start, LocalTime end) {
+        int from = (start.getHour() * 60 + start.getMinute()) / SLOT_MINUTES;
+        int endMinute = end.getHour() * 60 + end.getMinute() + (end.getSecond() > 0 || end.getNano() > 0 ? 1 : 0);
+        int to = (endMinute + SLOT_MINUTES - 1) / SLOT_MINUTES;
+        if (to <= from) return 0L;
+        return (-1L >>> (Long.SIZE - (to - from))) << from;
+    }
+
+    private record TimetableKey(Long studentId, Long semesterId) {
+    }
+
+    private record DayKey(LocalDate date, DayOfWeek dayOfWeek) {
+    }
+
+    private static final class Day {
+        private long occupied;
+        private final List<EnrolledSlot> slots = new ArrayList<>(4);
+    }
+
+    /**
+     * One student's enrollments in one semester, grouped by (date, day). Lookups do not lock,
+     * so {@link #add} copies the map on write; adding a section already present is a no-op.
+     */
+    private static final class Timetable {
+        private volatile Map<DayKey, Day> days = Map.of();
+
+        synchronized void add(EnrolledSlot slot) {
+            Map<DayKey, Day> next = new HashMap<>(days);
+            DayKey key = new DayKey(slot.enrolledDate(), slot.dayOfWeek());
+            Day previous = next.get(key);
+            if (previous != null && previous.slots.stream().anyMatch(e -> e.sectionId().equals(slot.sectionId()))) return;
+            Day day = new Day();
+            if (previous != null) {
+                day.occupied = previous.occupied;
+                day.slots.addAll(previous.slots);
+            }
+            day.occupied |= mask(slot.startTime(), slot.endTime());
+            day.slots.add(slot);
+            next.put(key, day);
+            days = next;
+        }
+    }
+}
@@ -1,7 +1,6 @@
 package com.highschool.scheduler.service;
 
 import com.highschool.scheduler.model.Teacher;
-import com.highschool.scheduler.repository.TeacherRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
@@ -11,9 +10,9 @@ import java.util.List;
 @Service
 @RequiredArgsConstructor
 public class TeacherService {
-    private final TeacherRepository teacherRepository;
+    private final ReferenceDataCache referenceData;
 
     public List<Teacher> findAll() {
-        return teacherRepository.findAll();
+        return referenceData.snapshot().teacherList();
     }
 }
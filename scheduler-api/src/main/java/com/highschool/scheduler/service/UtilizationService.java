@@ -1,7 +1,7 @@
 package com.highschool.scheduler.service;
 
+import com.highschool.scheduler.dto.ScheduledSectionRow;
 import com.highschool.scheduler.dto.UtilizationDTO;
-import com.highschool.scheduler.model.CourseSection;
 import com.highschool.scheduler.repository.CourseSectionRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -23,7 +23,7 @@ public class UtilizationService {
     private static final int DAYS = 5;
 
     public UtilizationDTO calculate() {
-        List<CourseSection> sections = sectionRepo.findAll();
+        List<ScheduledSectionRow> sections = sectionRepo.findScheduledSections();
         if (sections.isEmpty()) {
             return emptyResponse();
         }
@@ -46,55 +46,55 @@ public class UtilizationService {
         return new UtilizationDTO(summary, teacherUsage, roomUsage, dayUsage, slotUsage);
     }
 
-    private Map<Long, Double> aggregateTeacherHours(List<CourseSection> sections) {
+    private Map<Long, Double> aggregateTeacherHours(List<ScheduledSectionRow> sections) {
         Map<Long, Double> map = new HashMap<>();
-        for (CourseSection s : sections) {
-            map.merge(s.getTeacher().getId(), duration(s), Double::sum);
+        for (ScheduledSectionRow s : sections) {
+            map.merge(s.teacherId(), duration(s), Double::sum);
         }
         return map;
     }
 
-    private Map<Long, Double> aggregateRoomHours(List<CourseSection> sections) {
+    private Map<Long, Double> aggregateRoomHours(List<ScheduledSectionRow> sections) {
         Map<Long, Double> map = new HashMap<>();
-        for (CourseSection s : sections) {
-            map.merge(s.getClassroom().getId(), duration(s), Double::sum);
+        for (ScheduledSectionRow s : sections) {
+            map.merge(s.roomId(), duration(s), Double::sum);
         }
         return map;
     }
 
-    private Map<DayOfWeek, Double> aggregateDayHours(List<CourseSection> sections) {
+    private Map<DayOfWeek, Double> aggregateDayHours(List<ScheduledSectionRow> sections) {
         Map<DayOfWeek, Double> map = new EnumMap<>(DayOfWeek.class);
-        for (CourseSection s : sections) {
-            map.merge(s.getDayOfWeek(), duration(s), Double::sum);
+        for (ScheduledSectionRow s : sections) {
+            map.merge(s.dayOfWeek(), duration(s), Double::sum);
         }
         return map;
     }
 
-    private Map<LocalTime, Double> aggregateSlotHours(List<CourseSection> sections) {
+    private Map<LocalTime, Double> aggregateSlotHours(List<ScheduledSectionRow> sections) {
         Map<LocalTime, Double> map = new LinkedHashMap<>();
-        for (CourseSection s : sections) {
-            map.merge(s.getStartTime(), duration(s), Double::sum);
+        for (ScheduledSectionRow s : sections) {
+            map.merge(s.startTime(), duration(s), Double::sum);
         }
         return map;
     }
 
-    private double duration(CourseSection s) {
-        return Duration.between(s.getStartTime(), s.getEndTime()).toHours();
+    private double duration(ScheduledSectionRow s) {
+        return Duration.between(s.startTime(), s.endTime()).toHours();
     }
 
     private List<UtilizationDTO.ResourceUsage> buildTeacherUsage(
-            List<CourseSection> sections, Map<Long, Double> hours) {
+            List<ScheduledSectionRow> sections, Map<Long, Double> hours) {
 
         double max = TEACHER_MAX_DAILY * DAYS;
 
         return hours.entrySet().stream()
                 .map(e -> {
                     var teacher = sections.stream()
-                            .filter(s -> s.getTeacher().getId().equals(e.getKey()))
-                            .findFirst().get().getTeacher();
+                            .filter(s -> s.teacherId().equals(e.getKey()))
+                            .findFirst().get();
                     return new UtilizationDTO.ResourceUsage(
-                            teacher.getId(),
-                            teacher.getFirstName() + " " + teacher.getLastName(),
+                            teacher.teacherId(),
+                            teacher.teacherFirstName() + " " + teacher.teacherLastName(),
                             e.getValue(),
                             max,
                             percent(e.getValue(), max)
@@ -105,18 +105,18 @@ public class UtilizationService {
     }
 
     private List<UtilizationDTO.ResourceUsage> buildRoomUsage(
-            List<CourseSection> sections, Map<Long, Double> hours) {
+            List<ScheduledSectionRow> sections, Map<Long, Double> hours) {
 
         double max = ROOM_MAX_DAILY * DAYS;
 
         return hours.entrySet().stream()
                 .map(e -> {
                     var room = sections.stream()
-                            .filter(s -> s.getClassroom().getId().equals(e.getKey()))
-                            .findFirst().get().getClassroom();
+                            .filter(s -> s.roomId().equals(e.getKey()))
+                            .findFirst().get();
                     return new UtilizationDTO.ResourceUsage(
-                            room.getId(),
-                            room.getName(),
+                            room.roomId(),
+                            room.roomName(),
                             e.getValue(),
                             max,
                             percent(e.getValue(), max)
@@ -4,44 +4,87 @@ import com.highschool.scheduler.model.Course;
 import com.highschool.scheduler.model.Student;
 import com.highschool.scheduler.model.StudentCourseHistory;
 
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
-import java.util.stream.Collectors;
 
+/**
+ * Eligibility index over the student body, built once per generation run.
+ * <p>
+ * Students are laid out in grade-level order, so each grade bucket is a contiguous range of
+ * dense student positions. For every course some student has passed, a bitset over those
+ * positions marks who passed it (the per-student passed-course matrix, stored by column).
+ * Counting a course's eligible students is then a popcount of
+ * {@code passed(prerequisite) & ~passed(course)} over the words of its grade range.
+ */
 public final class CourseEligibilityCalculator {
-    private final List<Student> students;
-    private final Map<Long, List<StudentCourseHistory>> historyByStudent;
+    private final int[] gradeByPosition;
+    private final int words;
+    private final Map<Long, long[]> passedByCourse = new HashMap<>();
 
     public CourseEligibilityCalculator(List<Student> students, List<StudentCourseHistory> histories) {
-        this.students = students;
-        this.historyByStudent = histories.stream()
-                .collect(Collectors.groupingBy(h -> h.getStudent().getId()));
+        Student[] byGrade = students.toArray(new Student[0]);
+        Arrays.sort(byGrade, Comparator.comparingInt(Student::getGradeLevel));
+
+        this.gradeByPosition = new int[byGrade.length];
+        this.words = (byGrade.length + Long.SIZE - 1) / Long.SIZE;
+        Map<Long, Integer> positionById = new HashMap<>(byGrade.length * 2);
+        for (int i = 0; i < byGrade.length; i++) {
+            gradeByPosition[i] = byGrade[i].getGradeLevel();
+            positionById.put(byGrade[i].getId(), i);
+        }
+
+        for (StudentCourseHistory h : histories) {
+            if (!"passed".equalsIgnoreCase(h.getStatus()) || h.getStudent() == null || h.getCourse() == null) continue;
+            Integer position = positionById.get(h.getStudent().getId());
+            if (position == null) continue;
+            passedByCourse.computeIfAbsent(h.getCourse().getId(), id -> new long[words])[position >>> 6] |= 1L << position;
+        }
     }
 
+    /**
+     * Counts the students who are in the course's grade range, have passed its prerequisite
+     * (if any) and have not already passed the course itself.
+     *
+     * @param course the course to estimate demand for
+     * @return the number of eligible students
+     */
     public int eligibleStudentsCount(Course course) {
-        return (int) students.stream()
-                .filter(s -> withinGradeRange(s, course))
-                .filter(s -> hasPrerequisitePassed(s, course))
-                .filter(s -> notAlreadyPassed(s, course))
-                .count();
-    }
+        int from = firstPositionWithGradeAtLeast(course.getGradeLevelMin());
+        int to = course.getGradeLevelMax() == Integer.MAX_VALUE
+                ? gradeByPosition.length
+                : firstPositionWithGradeAtLeast(course.getGradeLevelMax() + 1);
+        if (from >= to) return 0;
 
-    private boolean withinGradeRange(Student s, Course c) {
-        return s.getGradeLevel() >= c.getGradeLevelMin()
-                && s.getGradeLevel() <= c.getGradeLevelMax();
-    }
+        long[] prerequisite = null;
+        if (course.getPrerequisite() != null) {
+            prerequisite = passedByCourse.get(course.getPrerequisite().getId());
+            if (prerequisite == null) return 0;
+        }
+        long[] alreadyPassed = passedByCourse.get(course.getId());
 
-    private boolean hasPrerequisitePassed(Student s, Course c) {
-        if (c.getPrerequisite() == null) return true;
-        return historyByStudent.getOrDefault(s.getId(), List.of()).stream()
-                .anyMatch(h -> Objects.equals(h.getCourse().getId(), c.getPrerequisite().getId())
-                        && "passed".equalsIgnoreCase(h.getStatus()));
+        int count = 0;
+        int lastWord = (to - 1) >>> 6;
+        for (int w = from >>> 6; w <= lastWord; w++) {
+            long bits = prerequisite == null ? -1L : prerequisite[w];
+            if (alreadyPassed != null) bits &= ~alreadyPassed[w];
+            if (w == from >>> 6) bits &= -1L << from;
+            if (w == lastWord) bits &= -1L >>> -to;
+            count += Long.bitCount(bits);
+        }
+        return count;
     }
 
-    private boolean notAlreadyPassed(Student s, Course c) {
-        return historyByStudent.getOrDefault(s.getId(), List.of()).stream()
-                .noneMatch(h -> Objects.equals(h.getCourse().getId(), c.getId())
-                        && "passed".equalsIgnoreCase(h.getStatus()));
+    private int firstPositionWithGradeAtLeast(int grade) {
+        int lo = 0;
+        int hi = gradeByPosition.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (gradeByPosition[mid] < grade) lo = mid + 1;
+            else hi = mid;
+        }
+        return lo;
     }
 }
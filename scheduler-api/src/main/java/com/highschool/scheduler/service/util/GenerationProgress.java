@@ -0,0 +1,100 @@
+package com.highschool.scheduler.service.util;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Progress of a schedule generation run, written by the generator's worker threads
+ * and read by whoever is watching the run. Also carries the watcher's cancel request
+ * back to the generator, which checks it between courses and between optimizer steps.
+ */
+public final class GenerationProgress {
+
+    /**
+     * The stage a generation run is in.
+     */
+    public enum Phase { PENDING, GENERATING, OPTIMIZING, SAVING, DONE }
+
+    private final AtomicInteger coursesPlaced = new AtomicInteger();
+    private final AtomicInteger totalCourses = new AtomicInteger();
+    private final AtomicInteger unplacedHours = new AtomicInteger();
+    private volatile Phase phase = Phase.PENDING;
+    private volatile double score = Double.NaN;
+    private volatile boolean cancelRequested;
+
+    public Phase phase() {
+        return phase;
+    }
+
+    public void phase(Phase phase) {
+        this.phase = phase;
+    }
+
+    /**
+     * @return courses whose greedy placement has finished, summed over every attempt
+     */
+    public int coursesPlaced() {
+        return coursesPlaced.get();
+    }
+
+    /**
+     * @return the number of course placements the run will make, summed over every attempt
+     */
+    public int totalCourses() {
+        return totalCourses.get();
+    }
+
+    public void totalCourses(int total) {
+        totalCourses.set(total);
+    }
+
+    /**
+     * Records that the greedy pass finished a course.
+     *
+     * @param unplaced hours of the course it could not place
+     */
+    public void courseFinished(int unplaced) {
+        coursesPlaced.incrementAndGet();
+        unplacedHours.addAndGet(unplaced);
+    }
+
+    /**
+     * @return hours not placed so far; running while generating, exact once a draft is chosen
+     */
+    public int unplacedHours() {
+        return unplacedHours.get();
+    }
+
+    public void unplacedHours(int hours) {
+        unplacedHours.set(hours);
+    }
+
+    /**
+     * @return the current {@link ScheduleObjective} value of the schedule, or NaN before there is one
+     */
+    public double score() {
+        return score;
+    }
+
+    public void score(double score) {
+        this.score = score;
+    }
+
+    /**
+     * Asks the run to stop at its next check.
+     */
+    public void requestCancel() {
+        cancelRequested = true;
+    }
+
+    public boolean isCancelRequested() {
+        return cancelRequested;
+    }
+
+    /**
+     * @throws CancellationException if cancellation has been requested
+     */
+    public void checkCancelled() {
+        if (cancelRequested) throw new CancellationException("Schedule generation cancelled");
+    }
+}
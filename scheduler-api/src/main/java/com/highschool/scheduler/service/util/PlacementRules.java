@@ -0,0 +1,72 @@
+package com.highschool.scheduler.service.util;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+
+/**
+ * Hard constraints a block of teaching hours must satisfy to be placed:
+ * the block fits the grid, teacher and room are free for every hour,
+ * the teacher is under the daily maximum, and the consecutive-hours rule holds.
+ * These are the same checks the greedy generator applies when picking a slot.
+ */
+public final class PlacementRules {
+    private final SlotGrid grid;
+    private final int teacherMaxDailyHours;
+
+    /**
+     * @param grid                 the weekly slot grid
+     * @param teacherMaxDailyHours daily hours a teacher must be under to take another block
+     */
+    public PlacementRules(SlotGrid grid, int teacherMaxDailyHours) {
+        this.grid = grid;
+        this.teacherMaxDailyHours = teacherMaxDailyHours;
+    }
+
+    public SlotGrid grid() {
+        return grid;
+    }
+
+    /**
+     * Checks whether a block can be placed without breaking any hard constraint.
+     *
+     * @param load      current occupancy, not including the block itself
+     * @param teacherId the teacher's unique ID
+     * @param roomId    the room's unique ID
+     * @param cell      the grid cell the block starts in
+     * @param duration  the block length in hours
+     * @return true if the block can be placed
+     */
+    public boolean fits(TeacherLoadTracker load, Long teacherId, Long roomId, int cell, int duration) {
+        if (!grid.isContiguousBlock(cell, duration)) return false;
+        DayOfWeek day = grid.day(grid.dayOfBit(cell));
+        LocalTime start = grid.slot(grid.slotOfBit(cell));
+        if (load.teacherDailyHours(teacherId, day) >= teacherMaxDailyHours) return false;
+        for (int h = 0; h < duration; h++) {
+            if (load.isTeacherBusy(teacherId, day, start.plusHours(h))
+                    || load.isRoomBusy(roomId, day, start.plusHours(h))) return false;
+        }
+        return !load.wouldExceedConsecutiveHours(teacherId, day, start, duration);
+    }
+
+    /**
+     * Marks or releases every hour of a block in the tracker.
+     *
+     * @param load      the occupancy to update
+     * @param teacherId the teacher's unique ID
+     * @param roomId    the room's unique ID
+     * @param cell      the grid cell the block starts in
+     * @param duration  the block length in hours
+     * @param placed    true to mark the block, false to release it
+     */
+    public void occupy(TeacherLoadTracker load, Long teacherId, Long roomId, int cell, int duration, boolean placed) {
+        DayOfWeek day = grid.day(grid.dayOfBit(cell));
+        LocalTime start = grid.slot(grid.slotOfBit(cell));
+        for (int h = 0; h < duration; h++) {
+            if (placed) {
+                load.markPlaced(teacherId, roomId, day, start.plusHours(h));
+            } else {
+                load.release(teacherId, roomId, day, start.plusHours(h));
+            }
+        }
+    }
+}
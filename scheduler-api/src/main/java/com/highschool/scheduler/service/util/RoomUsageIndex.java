@@ -0,0 +1,128 @@
+package com.highschool.scheduler.service.util;
+
+import com.highschool.scheduler.model.Classroom;
+
+import java.util.List;
+import java.util.random.RandomGenerator;
+
+/**
+ * Bucket index over a pool of interchangeable rooms (typically one room type),
+ * keyed by how many hours each room has been scheduled.
+ * <p>
+ * Rooms are bits in small {@code long[]} bitsets: one bitset per usage count and
+ * one per grid cell marking the rooms already busy there. The least-used free room
+ * for a cell is found by walking the buckets upwards and AND-ing out the busy set,
+ * which is independent of how many sections have been scheduled so far.
+ */
+public final class RoomUsageIndex {
+    private final Classroom[] rooms;
+    private final List<Classroom> roomList;
+    private final int words;
+    private final int[] usage;
+    private final long[][] roomsByUsage;
+    private final int[] bucketSize;
+    private final long[][] busyByBit;
+    private int minUsage;
+
+    /**
+     * @param rooms the rooms of the pool
+     * @param grid  the slot grid the rooms are scheduled on
+     */
+    public RoomUsageIndex(List<Classroom> rooms, SlotGrid grid) {
+        this.rooms = rooms.toArray(new Classroom[0]);
+        this.roomList = List.of(this.rooms);
+        this.words = (this.rooms.length + Long.SIZE - 1) / Long.SIZE;
+        this.usage = new int[this.rooms.length];
+        this.roomsByUsage = new long[grid.size() + 1][words];
+        this.bucketSize = new int[grid.size() + 1];
+        this.busyByBit = new long[grid.size()][words];
+
+        for (int i = 0; i < this.rooms.length; i++) {
+            roomsByUsage[0][i >>> 6] |= 1L << i;
+        }
+        bucketSize[0] = this.rooms.length;
+    }
+
+    public List<Classroom> rooms() {
+        return roomList;
+    }
+
+    /**
+     * @return the number of hours the room at pool position {@code local} has been scheduled
+     */
+    int usage(int local) {
+        return usage[local];
+    }
+
+    /**
+     * Records one more scheduled hour for a room of this pool.
+     *
+     * @param local the room's position in the pool
+     * @param bit   the grid cell the room is now busy in
+     */
+    void recordPlaced(int local, int bit) {
+        long mask = 1L << local;
+        int w = local >>> 6;
+        if ((busyByBit[bit][w] & mask) != 0) return;
+        busyByBit[bit][w] |= mask;
+
+        int u = usage[local]++;
+        roomsByUsage[u][w] &= ~mask;
+        roomsByUsage[u + 1][w] |= mask;
+        bucketSize[u]--;
+        bucketSize[u + 1]++;
+        while (minUsage < bucketSize.length - 1 && bucketSize[minUsage] == 0) minUsage++;
+    }
+
+    /**
+     * Removes one scheduled hour from a room of this pool.
+     *
+     * @param local the room's position in the pool
+     * @param bit   the grid cell the room is no longer busy in
+     */
+    void recordReleased(int local, int bit) {
+        long mask = 1L << local;
+        int w = local >>> 6;
+        if ((busyByBit[bit][w] & mask) == 0) return;
+        busyByBit[bit][w] &= ~mask;
+
+        int u = usage[local]--;
+        roomsByUsage[u][w] &= ~mask;
+        roomsByUsage[u - 1][w] |= mask;
+        bucketSize[u]--;
+        bucketSize[u - 1]++;
+        minUsage = Math.min(minUsage, u - 1);
+    }
+
+    /**
+     * Picks, among the rooms free at the given grid cell, one with the fewest scheduled hours.
+     * Ties are broken uniformly at random.
+     *
+     * @param bit    the grid cell to place a section in
+     * @param random source of randomness for tie-breaking
+     * @return the chosen {@link Classroom}, or {@code null} if every room is busy at that cell
+     */
+    public Classroom pickLeastUsedFree(int bit, RandomGenerator random) {
+        long[] busy = busyByBit[bit];
+        for (int u = minUsage; u < roomsByUsage.length; u++) {
+            if (bucketSize[u] == 0) continue;
+            long[] bucket = roomsByUsage[u];
+
+            int candidates = 0;
+            for (int w = 0; w < words; w++) candidates += Long.bitCount(bucket[w] & ~busy[w]);
+            if (candidates == 0) continue;
+
+            int pick = random.nextInt(candidates);
+            for (int w = 0; w < words; w++) {
+                long free = bucket[w] & ~busy[w];
+                int n = Long.bitCount(free);
+                if (pick < n) {
+                    for (int i = 0; i < pick; i++) free &= free - 1;
+                    return rooms[(w << 6) + Long.numberOfTrailingZeros(free)];
+                }
+                pick -= n;
+            }
+        }
+        return null;
+    }
+}
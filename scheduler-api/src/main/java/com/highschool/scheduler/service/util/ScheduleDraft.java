@@ -0,0 +1,83 @@
+package com.highschool.scheduler.service.util;
+
+import com.highschool.scheduler.model.Course;
+import com.highschool.scheduler.model.CourseSection;
+import com.highschool.scheduler.model.Semester;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * An in-memory schedule under construction: the generated sections together with
+ * the occupancy and slot-load state that describes them, and the course hours
+ * that could not be placed. Nothing here is persisted until the draft is saved.
+ */
+public final class ScheduleDraft {
+    private final Semester semester;
+    private final List<CourseSection> sections;
+    private final Map<Course, Integer> unplacedHours = new LinkedHashMap<>();
+    private final TeacherLoadTracker load;
+    private final SlotLoadQueue slotLoad;
+    private final Map<Long, RoomUsageIndex> roomPoolsByType;
+
+    /**
+     * @param semester        the semester the sections belong to
+     * @param sections        the generated sections, already recorded in {@code load} and {@code slotLoad}
+     * @param load            occupancy of every section
+     * @param slotLoad        school-wide load of every grid cell, by section start
+     * @param roomPoolsByType room usage indices registered in {@code load}, by room type ID
+     */
+    public ScheduleDraft(Semester semester, List<CourseSection> sections, TeacherLoadTracker load,
+                         SlotLoadQueue slotLoad, Map<Long, RoomUsageIndex> roomPoolsByType) {
+        this.semester = semester;
+        this.sections = sections;
+        this.load = load;
+        this.slotLoad = slotLoad;
+        this.roomPoolsByType = roomPoolsByType;
+    }
+
+    public Semester semester() {
+        return semester;
+    }
+
+    public List<CourseSection> sections() {
+        return sections;
+    }
+
+    public TeacherLoadTracker load() {
+        return load;
+    }
+
+    public SlotLoadQueue slotLoad() {
+        return slotLoad;
+    }
+
+    public Map<Long, RoomUsageIndex> roomPoolsByType() {
+        return roomPoolsByType;
+    }
+
+    /**
+     * @return the hours still to be placed per course; courses fully placed are absent
+     */
+    public Map<Course, Integer> unplacedHours() {
+        return unplacedHours;
+    }
+
+    /**
+     * Adjusts the unplaced hours of a course, dropping it once nothing is left.
+     *
+     * @param course the course
+     * @param delta  hours to add (positive) or that have now been placed (negative)
+     */
+    public void addUnplacedHours(Course course, int delta) {
+        unplacedHours.merge(course, delta, (a, b) -> a + b == 0 ? null : a + b);
+    }
+
+    /**
+     * @return the total number of course hours that could not be placed
+     */
+    public int totalUnplacedHours() {
+        return unplacedHours.values().stream().mapToInt(Integer::intValue).sum();
+    }
+}
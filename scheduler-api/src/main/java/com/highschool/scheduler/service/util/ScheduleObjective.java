@@ -0,0 +1,52 @@
+package com.highschool.scheduler.service.util;
+
+/**
+ * Soft-constraint objective minimised by {@link ScheduleSolver}.
+ * <p>
+ * The cost of a schedule is separable: a penalty per unplaced hour, plus a cost per
+ * grid cell depending only on how many hours start there, plus a cost per room
+ * depending only on its scheduled hours. That keeps every move's delta computable
+ * from the handful of cells and rooms it touches.
+ */
+public interface ScheduleObjective {
+
+    /**
+     * @return the cost of one course hour the schedule could not place
+     */
+    double unplacedHourPenalty();
+
+    /**
+     * @param hours the hours scheduled to start in a grid cell across the school
+     * @return the cost contributed by that cell
+     */
+    double slotLoadCost(int hours);
+
+    /**
+     * @param hours the hours a room is scheduled for the week
+     * @return the cost contributed by that room
+     */
+    double roomUsageCost(int hours);
+
+    /**
+     * Placing every hour dominates; after that, squared loads reward spreading
+     * sections evenly over time slots and over the rooms of each type.
+     */
+    static ScheduleObjective balanced() {
+        return new ScheduleObjective() {
+            @Override
+            public double unplacedHourPenalty() {
+                return 1_000.0;
+            }
+
+            @Override
+            public double slotLoadCost(int hours) {
+                return (double) hours * hours;
+            }
+
+            @Override
+            public double roomUsageCost(int hours) {
+                return (double) hours * hours;
+            }
+        };
+    }
+}
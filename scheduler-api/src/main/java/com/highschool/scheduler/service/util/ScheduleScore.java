@@ -0,0 +1,93 @@
+package com.highschool.scheduler.service.util;
+
+import com.highschool.scheduler.model.Teacher;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Quality of a generated {@link ScheduleDraft}, used to pick the best of several attempts.
+ * <p>
+ * Both variances are reported as the excess over the smallest variance integer hour
+ * counts can reach: with {@code T} hours over {@code n} cells, {@code T mod n} cells
+ * must carry one hour more than the rest. A score of all zeros is therefore the best
+ * any schedule can achieve.
+ *
+ * @param unplacedHours       course hours that could not be placed
+ * @param slotVariance        excess variance of the hours starting in each grid cell
+ * @param teacherLoadVariance excess variance of weekly teacher hours within each specialization, pooled
+ */
+public record ScheduleScore(int unplacedHours, double slotVariance, double teacherLoadVariance)
+        implements Comparable<ScheduleScore> {
+
+    private static final double EPSILON = 1e-9;
+
+    private static final Comparator<ScheduleScore> ORDER = Comparator
+            .comparingInt(ScheduleScore::unplacedHours)
+            .thenComparingDouble(s -> s.slotVariance() + s.teacherLoadVariance());
+
+    /**
+     * Scores a draft.
+     *
+     * @param draft          the schedule to score
+     * @param teachersBySpec the teachers eligible for each specialization ID
+     * @return the draft's score
+     */
+    public static ScheduleScore of(ScheduleDraft draft, Map<Long, List<Teacher>> teachersBySpec) {
+        SlotGrid grid = draft.load().grid();
+        int[] slotHours = new int[grid.size()];
+        for (int cell = 0; cell < slotHours.length; cell++) {
+            slotHours[cell] = draft.slotLoad().load(cell);
+        }
+
+        double teacherExcess = 0;
+        int teacherCount = 0;
+        for (List<Teacher> pool : teachersBySpec.values()) {
+            int[] hours = new int[pool.size()];
+            for (int i = 0; i < hours.length; i++) {
+                hours[i] = draft.load().weeklyHours(pool.get(i).getId());
+            }
+            teacherExcess += excessSquaredDeviation(hours);
+            teacherCount += hours.length;
+        }
+
+        return new ScheduleScore(
+                draft.totalUnplacedHours(),
+                excessSquaredDeviation(slotHours) / slotHours.length,
+                teacherCount == 0 ? 0 : teacherExcess / teacherCount);
+    }
+
+    /**
+     * @return true if every hour is placed and both loads are as even as possible
+     */
+    public boolean isPerfect() {
+        return unplacedHours == 0 && slotVariance < EPSILON && teacherLoadVariance < EPSILON;
+    }
+
+    /**
+     * Orders by unplaced hours first, then by the sum of the variances; lower is better.
+     */
+    @Override
+    public int compareTo(ScheduleScore other) {
+        return ORDER.compare(this, other);
+    }
+
+    /**
+     * Sum of squared deviations from the mean, minus the least that integer values with the same total allow.
+     */
+    private static double excessSquaredDeviation(int[] values) {
+        int n = values.length;
+        if (n == 0) return 0;
+        long total = 0;
+        long squares = 0;
+        for (int v : values) {
+            total += v;
+            squares += (long) v * v;
+        }
+        // n * sum((v - mean)^2) = n * sum(v^2) - total^2, and the integer floor is r * (n - r) / n
+        long r = total % n;
+        long excess = n * squares - total * total - r * (n - r);
+        return (double) excess / n;
+    }
+}
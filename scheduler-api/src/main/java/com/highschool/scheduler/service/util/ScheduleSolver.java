@@ -0,0 +1,395 @@
+package com.highschool.scheduler.service.util;
+
+import com.highschool.scheduler.model.Classroom;
+import com.highschool.scheduler.model.Course;
+import com.highschool.scheduler.model.CourseSection;
+import com.highschool.scheduler.model.Teacher;
+
+import java.time.Duration;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.random.RandomGenerator;
+
+/**
+ * Improves a greedy {@link ScheduleDraft} with simulated annealing.
+ * <p>
+ * The search only ever visits schedules that satisfy the {@link PlacementRules};
+ * a move that would break one is simply not made. Moves are: shift a section to
+ * another slot, change its room or teacher, swap the slots of two sections of equal
+ * length, and place one of the hours the greedy pass gave up on. Each move's effect
+ * on the {@link ScheduleObjective} is computed from the cells and rooms it touches,
+ * so a move costs a few bit operations instead of a rescan of the schedule.
+ * The best schedule seen is what the draft holds when the time budget runs out.
+ */
+public final class ScheduleSolver {
+    private static final double START_TEMPERATURE = 4.0;
+    private static final double END_TEMPERATURE = 0.05;
+    private static final int CLOCK_CHECK_INTERVAL = 256;
+
+    private final PlacementRules rules;
+    private final ScheduleObjective objective;
+    private final Map<Long, List<Teacher>> teachersBySpec;
+
+    /**
+     * Outcome of one {@link #improve} run.
+     *
+     * @param initialCost   objective value of the draft as handed in
+     * @param finalCost     objective value of the draft as handed back
+     * @param iterations    moves attempted
+     * @param acceptedMoves moves made
+     * @param unplacedHours course hours still unplaced
+     */
+    public record Result(double initialCost, double finalCost, long iterations, long acceptedMoves, int unplacedHours) {
+    }
+
+    /**
+     * @param rules          the hard constraints every move must keep
+     * @param objective      the soft constraints to minimise
+     * @param teachersBySpec the teachers eligible for each specialization ID
+     */
+    public ScheduleSolver(PlacementRules rules, ScheduleObjective objective, Map<Long, List<Teacher>> teachersBySpec) {
+        this.rules = rules;
+        this.objective = objective;
+        this.teachersBySpec = teachersBySpec;
+    }
+
+    /**
+     * Runs the search on the draft in place until the budget or the iteration cap is used up.
+     *
+     * @param draft         the schedule to improve; its sections, occupancy and unplaced hours are updated
+     * @param budget        wall-clock time to spend
+     * @param maxIterations upper bound on attempted moves
+     * @param random        source of randomness for move selection and acceptance
+     * @return statistics about the run
+     */
+    public Result improve(ScheduleDraft draft, Duration budget, long maxIterations, RandomGenerator random) {
+        return improve(draft, budget, maxIterations, random, new GenerationProgress());
+    }
+
+    /**
+     * Runs the search on the draft in place, publishing the current cost to {@code progress}
+     * and stopping early, with the best schedule seen so far, once cancellation is requested.
+     *
+     * @param draft         the schedule to improve; its sections, occupancy and unplaced hours are updated
+     * @param budget        wall-clock time to spend
+     * @param maxIterations upper bound on attempted moves
+     * @param random        source of randomness for move selection and acceptance
+     * @param progress      where to report the current cost and read cancellation from
+     * @return statistics about the run
+     */
+    public Result improve(ScheduleDraft draft, Duration budget, long maxIterations, RandomGenerator random,
+                          GenerationProgress progress) {
+        return new Search(draft, random, progress).run(budget, maxIterations);
+    }
+
+    /**
+     * @return the objective value of the draft, computed from scratch
+     */
+    public double cost(ScheduleDraft draft) {
+        double cost = objective.unplacedHourPenalty() * draft.totalUnplacedHours();
+        for (int cell = 0; cell < rules.grid().size(); cell++) {
+            cost += objective.slotLoadCost(draft.slotLoad().load(cell));
+        }
+        for (RoomUsageIndex pool : draft.roomPoolsByType().values()) {
+            for (Classroom room : pool.rooms()) {
+                cost += objective.roomUsageCost(draft.load().roomUsage(room.getId()));
+            }
+        }
+        return cost;
+    }
+
+    /**
+     * Mutable state of a single annealing run.
+     */
+    private final class Search {
+        private final ScheduleDraft draft;
+        private final RandomGenerator random;
+        private final GenerationProgress progress;
+        private final SlotGrid grid = rules.grid();
+        private final TeacherLoadTracker load;
+        private final SlotLoadQueue slotLoad;
+        private final List<CourseSection> sections;
+        private final List<Course> pending;
+        private int[] cells;
+        private int[] durations;
+        private double cost;
+
+        private double bestCost;
+        /** The current state is a new best that has not been copied yet. */
+        private boolean bestUnsaved;
+        private int bestCount;
+        private int[] bestCells;
+        private Teacher[] bestTeachers;
+        private Classroom[] bestRooms;
+        private Map<Course, Integer> bestUnplaced;
+
+        Search(ScheduleDraft draft, RandomGenerator random, GenerationProgress progress) {
+            this.draft = draft;
+            this.random = random;
+            this.progress = progress;
+            this.load = draft.load();
+            this.slotLoad = draft.slotLoad();
+            this.sections = draft.sections();
+            this.pending = new ArrayList<>(draft.unplacedHours().keySet());
+
+            int capacity = sections.size() + draft.totalUnplacedHours();
+            this.cells = new int[capacity];
+            this.durations = new int[capacity];
+            for (int i = 0; i < sections.size(); i++) {
+                CourseSection s = sections.get(i);
+                cells[i] = grid.bit(s.getDayOfWeek(), s.getStartTime());
+                durations[i] = (int) Duration.between(s.getStartTime(), s.getEndTime()).toHours();
+            }
+            this.cost = cost(draft);
+        }
+
+        Result run(Duration budget, long maxIterations) {
+            double initialCost = cost;
+            snapshot();
+
+            long start = System.nanoTime();
+            long budgetNanos = Math.max(1, budget.toNanos());
+            double temperature = START_TEMPERATURE;
+            long iterations = 0;
+            long accepted = 0;
+            while (iterations < maxIterations) {
+                if (iterations % CLOCK_CHECK_INTERVAL == 0) {
+                    long elapsed = System.nanoTime() - start;
+                    if (elapsed >= budgetNanos || progress.isCancelRequested()) break;
+                    progress.score(bestCost);
+                    double elapsedFraction = Math.max((double) elapsed / budgetNanos, (double) iterations / maxIterations);
+                    temperature = START_TEMPERATURE * Math.pow(END_TEMPERATURE / START_TEMPERATURE, elapsedFraction);
+                }
+                iterations++;
+                if (tryMove(temperature)) {
+                    accepted++;
+                    if (cost < bestCost - 1e-9) {
+                        bestCost = cost;
+                        bestUnsaved = true;
+                    }
+                }
+            }
+            if (cost > bestCost + 1e-9) restore();
+            progress.score(cost);
+
+            return new Result(initialCost, cost, iterations, accepted, draft.totalUnplacedHours());
+        }
+
+        private boolean tryMove(double temperature) {
+            if (!pending.isEmpty() && (sections.isEmpty() || random.nextInt(4) == 0)) {
+                return tryPlaceUnplacedHour(temperature);
+            }
+            if (sections.isEmpty()) return false;
+            int i = random.nextInt(sections.size());
+            return switch (random.nextInt(6)) {
+                case 0, 1, 2 -> trySlotMove(i, temperature);
+                case 3 -> tryRoomMove(i, temperature);
+                case 4 -> tryTeacherMove(i);
+                default -> trySwapSlots(i, random.nextInt(sections.size()));
+            };
+        }
+
+        /**
+         * Decides whether to make a move. Before the first worsening move out of a new best
+         * state, that state is copied, so a run of improvements costs one copy instead of one each.
+         */
+        private boolean accept(double delta, double temperature) {
+            if (delta <= 0) return true;
+            if (random.nextDouble() >= Math.exp(-delta / temperature)) return false;
+            if (bestUnsaved) snapshot();
+            return true;
+        }
+
+        private double slotDelta(int cell, int hours) {
+            int current = slotLoad.load(cell);
+            return objective.slotLoadCost(current + hours) - objective.slotLoadCost(current);
+        }
+
+        private double roomDelta(Long roomId, int hours) {
+            int current = load.roomUsage(roomId);
+            return objective.roomUsageCost(current + hours) - objective.roomUsageCost(current);
+        }
+
+        private boolean trySlotMove(int i, double temperature) {
+            int from = cells[i];
+            int to = random.nextInt(grid.size());
+            int d = durations[i];
+            if (to == from) return false;
+
+            double delta = slotDelta(from, -d) + slotDelta(to, d);
+            if (!accept(delta, temperature)) return false;
+
+            CourseSection s = sections.get(i);
+            Long teacherId = s.getTeacher().getId();
+            Long roomId = s.getClassroom().getId();
+            rules.occupy(load, teacherId, roomId, from, d, false);
+            if (!rules.fits(load, teacherId, roomId, to, d)) {
+                rules.occupy(load, teacherId, roomId, from, d, true);
+                return false;
+            }
+            rules.occupy(load, teacherId, roomId, to, d, true);
+            slotLoad.remove(from, d);
+            slotLoad.add(to, d);
+            setCell(i, to);
+            cost += delta;
+            return true;
+        }
+
+        private boolean tryRoomMove(int i, double temperature) {
+            CourseSection s = sections.get(i);
+            RoomUsageIndex pool = draft.roomPoolsByType().get(s.getCourse().getSpecialization().getRoomType().getId());
+            if (pool == null || pool.rooms().size() < 2) return false;
+            Classroom room = pool.rooms().get(random.nextInt(pool.rooms().size()));
+            Long fromRoomId = s.getClassroom().getId();
+            if (room.getId().equals(fromRoomId)) return false;
+
+            int d = durations[i];
+            double delta = roomDelta(fromRoomId, -d) + roomDelta(room.getId(), d);
+            if (!accept(delta, temperature)) return false;
+
+            Long teacherId = s.getTeacher().getId();
+            rules.occupy(load, teacherId, fromRoomId, cells[i], d, false);
+            if (!rules.fits(load, teacherId, room.getId(), cells[i], d)) {
+                rules.occupy(load, teacherId, fromRoomId, cells[i], d, true);
+                return false;
+            }
+            rules.occupy(load, teacherId, room.getId(), cells[i], d, true);
+            s.setClassroom(room);
+            cost += delta;
+            return true;
+        }
+
+        private boolean tryTeacherMove(int i) {
+            CourseSection s = sections.get(i);
+            List<Teacher> pool = teachersBySpec.get(s.getCourse().getSpecialization().getId());
+            if (pool == null || pool.size() < 2) return false;
+            Teacher teacher = pool.get(random.nextInt(pool.size()));
+            Long fromTeacherId = s.getTeacher().getId();
+            if (teacher.getId().equals(fromTeacherId)) return false;
+
+            // Teacher load is not part of the objective, so the move is cost-neutral
+            Long roomId = s.getClassroom().getId();
+            int d = durations[i];
+            rules.occupy(load, fromTeacherId, roomId, cells[i], d, false);
+            if (!rules.fits(load, teacher.getId(), roomId, cells[i], d)) {
+                rules.occupy(load, fromTeacherId, roomId, cells[i], d, true);
+                return false;
+            }
+            rules.occupy(load, teacher.getId(), roomId, cells[i], d, true);
+            s.setTeacher(teacher);
+            return true;
+        }
+
+        private boolean trySwapSlots(int i, int j) {
+            if (i == j || cells[i] == cells[j] || durations[i] != durations[j]) return false;
+
+            // Equal lengths leave every cell's load unchanged, so the move is cost-neutral
+            CourseSection a = sections.get(i);
+            CourseSection b = sections.get(j);
+            int d = durations[i];
+            int cellA = cells[i];
+            int cellB = cells[j];
+            rules.occupy(load, a.getTeacher().getId(), a.getClassroom().getId(), cellA, d, false);
+            rules.occupy(load, b.getTeacher().getId(), b.getClassroom().getId(), cellB, d, false);
+
+            boolean swapped = false;
+            if (rules.fits(load, a.getTeacher().getId(), a.getClassroom().getId(), cellB, d)) {
+                rules.occupy(load, a.getTeacher().getId(), a.getClassroom().getId(), cellB, d, true);
+                if (rules.fits(load, b.getTeacher().getId(), b.getClassroom().getId(), cellA, d)) {
+                    rules.occupy(load, b.getTeacher().getId(), b.getClassroom().getId(), cellA, d, true);
+                    swapped = true;
+                } else {
+                    rules.occupy(load, a.getTeacher().getId(), a.getClassroom().getId(), cellB, d, false);
+                }
+            }
+            if (!swapped) {
+                rules.occupy(load, a.getTeacher().getId(), a.getClassroom().getId(), cellA, d, true);
+                rules.occupy(load, b.getTeacher().getId(), b.getClassroom().getId(), cellB, d, true);
+                return false;
+            }
+            setCell(i, cellB);
+            setCell(j, cellA);
+            return true;
+        }
+
+        private boolean tryPlaceUnplacedHour(double temperature) {
+            Course course = pending.get(random.nextInt(pending.size()));
+            int to = random.nextInt(grid.size());
+            RoomUsageIndex pool = draft.roomPoolsByType().get(course.getSpecialization().getRoomType().getId());
+            List<Teacher> teachers = teachersBySpec.get(course.getSpecialization().getId());
+            if (pool == null || teachers == null || teachers.isEmpty()) return false;
+            Classroom room = pool.pickLeastUsedFree(to, random);
+            if (room == null) return false;
+            Teacher teacher = teachers.get(random.nextInt(teachers.size()));
+
+            double delta = -objective.unplacedHourPenalty() + slotDelta(to, 1) + roomDelta(room.getId(), 1);
+            if (!accept(delta, temperature)) return false;
+            if (!rules.fits(load, teacher.getId(), room.getId(), to, 1)) return false;
+
+            rules.occupy(load, teacher.getId(), room.getId(), to, 1, true);
+            slotLoad.add(to, 1);
+
+            CourseSection section = new CourseSection();
+            section.setCourse(course);
+            section.setTeacher(teacher);
+            section.setClassroom(room);
+            section.setSemester(draft.semester());
+            int i = sections.size();
+            sections.add(section);
+            durations[i] = 1;
+            setCell(i, to);
+
+            draft.addUnplacedHours(course, -1);
+            if (!draft.unplacedHours().containsKey(course)) pending.remove(course);
+            cost += delta;
+            return true;
+        }
+
+        private void setCell(int i, int cell) {
+            cells[i] = cell;
+            CourseSection s = sections.get(i);
+            LocalTime start = grid.slot(grid.slotOfBit(cell));
+            s.setDayOfWeek(grid.day(grid.dayOfBit(cell)));
+            s.setStartTime(start);
+            s.setEndTime(start.plusHours(durations[i]));
+        }
+
+        private void snapshot() {
+            bestCost = cost;
+            bestUnsaved = false;
+            bestCount = sections.size();
+            bestCells = Arrays.copyOf(cells, bestCount);
+            bestTeachers = new Teacher[bestCount];
+            bestRooms = new Classroom[bestCount];
+            for (int i = 0; i < bestCount; i++) {
+                bestTeachers[i] = sections.get(i).getTeacher();
+                bestRooms[i] = sections.get(i).getClassroom();
+            }
+            bestUnplaced = new LinkedHashMap<>(draft.unplacedHours());
+        }
+
+        private void restore() {
+            for (int i = 0; i < sections.size(); i++) {
+                CourseSection s = sections.get(i);
+                rules.occupy(load, s.getTeacher().getId(), s.getClassroom().getId(), cells[i], durations[i], false);
+                slotLoad.remove(cells[i], durations[i]);
+            }
+            sections.subList(bestCount, sections.size()).clear();
+            for (int i = 0; i < bestCount; i++) {
+                CourseSection s = sections.get(i);
+                s.setTeacher(bestTeachers[i]);
+                s.setClassroom(bestRooms[i]);
+                setCell(i, bestCells[i]);
+                rules.occupy(load, s.getTeacher().getId(), s.getClassroom().getId(), cells[i], durations[i], true);
+                slotLoad.add(cells[i], durations[i]);
+            }
+            draft.unplacedHours().clear();
+            draft.unplacedHours().putAll(bestUnplaced);
+            cost = bestCost;
+        }
+    }
+}
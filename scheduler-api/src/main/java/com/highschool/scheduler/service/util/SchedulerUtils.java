@@ -1,12 +1,10 @@
 package com.highschool.scheduler.service.util;
 
 import com.highschool.scheduler.model.Classroom;
-import com.highschool.scheduler.model.CourseSection;
 import com.highschool.scheduler.model.Teacher;
 
-import java.util.Collections;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.random.RandomGenerator;
 
 /**
  * Utility class for scheduling-related selection logic,
@@ -16,58 +14,56 @@ public final class SchedulerUtils {
 
     /**
      * Selects and returns a classroom from the list of available rooms
-     * that has been used the least number of times in the current schedule.
-     * If there is a tie, one of the least-used rooms is chosen at random.
+     * that has been used the least number of hours (as tracked by {@link TeacherLoadTracker}).
+     * If there is a tie, one of the least-used rooms is chosen uniformly at random.
      *
-     * @param availableRooms      List of available {@link Classroom} objects.
-     * @param scheduledSections   List of already scheduled {@link CourseSection} objects.
+     * @param load            The {@link TeacherLoadTracker} instance for querying room usage.
+     * @param availableRooms  List of available {@link Classroom} objects.
+     * @param random          Source of randomness for tie-breaking.
      * @return a {@link Classroom} that is least used, or {@code null} if the list is empty.
      */
-    public static Classroom pickLeastUsedRoom(List<Classroom> availableRooms, List<CourseSection> scheduledSections) {
-        int minUsage = availableRooms.stream()
-                .mapToInt(r -> countRoomUsage(r, scheduledSections))
-                .min()
-                .orElse(0);
-
-        List<Classroom> leastUsed = availableRooms.stream()
-                .filter(r -> countRoomUsage(r, scheduledSections) == minUsage)
-                .collect(Collectors.toList());
-
-        Collections.shuffle(leastUsed);
-        return leastUsed.isEmpty() ? null : leastUsed.get(0);
+    public static Classroom pickLeastUsedRoom(TeacherLoadTracker load, List<Classroom> availableRooms, RandomGenerator random) {
+        Classroom chosen = null;
+        int minUsage = Integer.MAX_VALUE;
+        int ties = 0;
+        for (Classroom room : availableRooms) {
+            int usage = load.roomUsage(room.getId());
+            if (usage < minUsage) {
+                minUsage = usage;
+                chosen = room;
+                ties = 1;
+            } else if (usage == minUsage && random.nextInt(++ties) == 0) {
+                // Reservoir sampling keeps each tied room equally likely
+                chosen = room;
+            }
+        }
+        return chosen;
     }
 
     /**
      * Selects and returns a teacher from the list of available teachers
      * who has the lowest total weekly assigned hours (as tracked by {@link TeacherLoadTracker}).
-     * If there is a tie, one of the least-loaded teachers is chosen at random.
+     * If there is a tie, one of the least-loaded teachers is chosen uniformly at random.
      *
      * @param load               The {@link TeacherLoadTracker} instance for querying teacher loads.
      * @param availableTeachers  List of available {@link Teacher} objects.
+     * @param random             Source of randomness for tie-breaking.
      * @return a {@link Teacher} with the least load, or {@code null} if the list is empty.
      */
-    public static Teacher pickLeastLoadedTeacher(TeacherLoadTracker load, List<Teacher> availableTeachers) {
-        int minLoad = availableTeachers.stream()
-                .mapToInt(t -> load.weeklyHours(t.getId()))
-                .min()
-                .orElse(0);
-
-        List<Teacher> leastLoaded = availableTeachers.stream()
-                .filter(t -> load.weeklyHours(t.getId()) == minLoad)
-                .collect(Collectors.toList());
-
-        Collections.shuffle(leastLoaded);
-        return leastLoaded.isEmpty() ? null : leastLoaded.get(0);
-    }
-
-    /**
-     * Counts how many times a given classroom appears in the list of scheduled sections.
-     *
-     * @param room      The {@link Classroom} to check.
-     * @param sections  List of {@link CourseSection} objects to search.
-     * @return The number of times {@code room} is assigned in {@code sections}.
-     */
-    private static int countRoomUsage(Classroom room, List<CourseSection> sections) {
-        return (int) sections.stream().filter(s -> s.getClassroom().equals(room)).count();
+    public static Teacher pickLeastLoadedTeacher(TeacherLoadTracker load, List<Teacher> availableTeachers, RandomGenerator random) {
+        Teacher chosen = null;
+        int minLoad = Integer.MAX_VALUE;
+        int ties = 0;
+        for (Teacher teacher : availableTeachers) {
+            int hours = load.weeklyHours(teacher.getId());
+            if (hours < minLoad) {
+                minLoad = hours;
+                chosen = teacher;
+                ties = 1;
+            } else if (hours == minLoad && random.nextInt(++ties) == 0) {
+                chosen = teacher;
+            }
+        }
+        return chosen;
     }
 }
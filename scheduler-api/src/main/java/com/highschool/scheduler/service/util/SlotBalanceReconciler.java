@@ -0,0 +1,100 @@
+package com.highschool.scheduler.service.util;
+
+import com.highschool.scheduler.model.CourseSection;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalTime;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Evens out the school-wide slot load of an already generated schedule by moving
+ * sections from crowded cells to quieter ones, whenever the teacher, room and
+ * teacher-hour rules still hold at the new time.
+ * <p>
+ * The pass is deterministic: sections are visited in a fixed order and target
+ * cells are tried from the lowest load upwards, so the same input always yields
+ * the same schedule. Every move lowers the sum of squared cell loads, which
+ * guarantees termination.
+ */
+public final class SlotBalanceReconciler {
+    private static final Comparator<CourseSection> VISIT_ORDER = Comparator
+            .comparing((CourseSection s) -> s.getCourse().getId())
+            .thenComparing(CourseSection::getDayOfWeek)
+            .thenComparing(CourseSection::getStartTime)
+            .thenComparing(s -> s.getTeacher().getId());
+
+    private final TeacherLoadTracker load;
+    private final SlotLoadQueue slotLoad;
+    private final SlotGrid grid;
+    private final PlacementRules rules;
+
+    /**
+     * @param load     occupancy of every section being reconciled
+     * @param slotLoad the school-wide load of every cell, by section start
+     * @param rules    the hard constraints a moved section must still satisfy
+     */
+    public SlotBalanceReconciler(TeacherLoadTracker load, SlotLoadQueue slotLoad, PlacementRules rules) {
+        this.load = load;
+        this.slotLoad = slotLoad;
+        this.grid = load.grid();
+        this.rules = rules;
+    }
+
+    /**
+     * Moves sections until no single move improves the slot balance.
+     * The sections are updated in place.
+     *
+     * @param sections the generated sections, already recorded in the tracker and slot load
+     * @return the number of moves made
+     */
+    public int reconcile(List<CourseSection> sections) {
+        List<CourseSection> ordered = sections.stream().sorted(VISIT_ORDER).toList();
+        int moves = 0;
+        boolean moved = true;
+        while (moved) {
+            moved = false;
+            for (CourseSection section : ordered) {
+                if (tryMove(section)) {
+                    moves++;
+                    moved = true;
+                }
+            }
+        }
+        return moves;
+    }
+
+    private boolean tryMove(CourseSection section) {
+        int from = grid.bit(section.getDayOfWeek(), section.getStartTime());
+        int duration = (int) Duration.between(section.getStartTime(), section.getEndTime()).toHours();
+        if (from < 0 || slotLoad.load(from) - slotLoad.minLoad() <= duration) return false;
+
+        Long teacherId = section.getTeacher().getId();
+        Long roomId = section.getClassroom().getId();
+        rules.occupy(load, teacherId, roomId, from, duration, false);
+
+        // Only cells that end up strictly below the source's current load improve the balance
+        for (int target = slotLoad.minLoad(); target + duration < slotLoad.load(from); target++) {
+            long cells = slotLoad.cellsAtLoad(target);
+            while (cells != 0) {
+                int to = Long.numberOfTrailingZeros(cells);
+                cells &= cells - 1;
+                if (rules.fits(load, teacherId, roomId, to, duration)) {
+                    DayOfWeek day = grid.day(grid.dayOfBit(to));
+                    LocalTime start = grid.slot(grid.slotOfBit(to));
+                    rules.occupy(load, teacherId, roomId, to, duration, true);
+                    slotLoad.remove(from, duration);
+                    slotLoad.add(to, duration);
+                    section.setDayOfWeek(day);
+                    section.setStartTime(start);
+                    section.setEndTime(start.plusHours(duration));
+                    return true;
+                }
+            }
+        }
+
+        rules.occupy(load, teacherId, roomId, from, duration, true);
+        return false;
+    }
+}
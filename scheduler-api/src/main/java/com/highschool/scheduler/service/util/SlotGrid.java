@@ -0,0 +1,173 @@
+package com.highschool.scheduler.service.util;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Dense index over the weekly teaching grid (days x hourly slots).
+ * Every (day, slot) pair maps to a bit position in a single {@code long},
+ * so a resource's whole week can be stored and queried as one bitmask.
+ */
+public final class SlotGrid {
+
+    private static final DayOfWeek[] WEEKDAYS = {
+            DayOfWeek.MONDAY, DayOfWeek.TUESDAY, DayOfWeek.WEDNESDAY,
+            DayOfWeek.THURSDAY, DayOfWeek.FRIDAY
+    };
+
+    private static final List<LocalTime> HOURLY_SLOTS = List.of(
+            LocalTime.of(9, 0),
+            LocalTime.of(10, 0),
+            LocalTime.of(11, 0),
+            LocalTime.of(13, 0), // skip lunch
+            LocalTime.of(14, 0),
+            LocalTime.of(15, 0),
+            LocalTime.of(16, 0)
+    );
+
+    /** The school's standard Monday-Friday grid with a lunch break at 12:00. */
+    public static final SlotGrid STANDARD = new SlotGrid(WEEKDAYS, HOURLY_SLOTS);
+
+    private final DayOfWeek[] days;
+    private final LocalTime[] slots;
+    private final int[] dayIndexByDow = new int[7];
+    private final int[] slotIndexByHour = new int[24];
+    private final long[] dayMasks;
+    private final int[] contiguousFrom;
+
+    /**
+     * Builds a grid over the given days and hourly start times.
+     *
+     * @param days  the teaching days, in grid order
+     * @param slots the hourly start times of a day, in grid order
+     * @throws IllegalArgumentException if the grid does not fit in 64 bits or a slot is not on the hour
+     */
+    public SlotGrid(DayOfWeek[] days, List<LocalTime> slots) {
+        if ((long) days.length * slots.size() > Long.SIZE) {
+            throw new IllegalArgumentException("Slot grid must fit in " + Long.SIZE + " bits");
+        }
+        this.days = days.clone();
+        this.slots = slots.toArray(new LocalTime[0]);
+        this.dayMasks = new long[days.length];
+        this.contiguousFrom = new int[this.slots.length];
+
+        Arrays.fill(dayIndexByDow, -1);
+        Arrays.fill(slotIndexByHour, -1);
+        for (int d = 0; d < this.days.length; d++) {
+            dayIndexByDow[this.days[d].getValue() - 1] = d;
+        }
+        for (int s = 0; s < this.slots.length; s++) {
+            LocalTime t = this.slots[s];
+            if (t.getMinute() != 0 || t.getSecond() != 0 || t.getNano() != 0) {
+                throw new IllegalArgumentException("Slots must start on the hour: " + t);
+            }
+            slotIndexByHour[t.getHour()] = s;
+        }
+        for (int s = this.slots.length - 1; s >= 0; s--) {
+            boolean joinsNext = s + 1 < this.slots.length
+                    && this.slots[s + 1].getHour() == this.slots[s].getHour() + 1;
+            contiguousFrom[s] = joinsNext ? contiguousFrom[s + 1] + 1 : 1;
+        }
+        long slotsOfDay = this.slots.length == Long.SIZE ? -1L : (1L << this.slots.length) - 1;
+        for (int d = 0; d < this.days.length; d++) {
+            dayMasks[d] = slotsOfDay << (d * this.slots.length);
+        }
+    }
+
+    public int dayCount() {
+        return days.length;
+    }
+
+    public int slotsPerDay() {
+        return slots.length;
+    }
+
+    /**
+     * @return the total number of (day, slot) cells in the grid
+     */
+    public int size() {
+        return days.length * slots.length;
+    }
+
+    public DayOfWeek day(int dayIndex) {
+        return days[dayIndex];
+    }
+
+    public LocalTime slot(int slotIndex) {
+        return slots[slotIndex];
+    }
+
+    /**
+     * @return a copy of the grid's days, in grid order
+     */
+    public DayOfWeek[] days() {
+        return days.clone();
+    }
+
+    /**
+     * @return the grid's hourly start times, in grid order
+     */
+    public List<LocalTime> slots() {
+        return List.of(slots);
+    }
+
+    /**
+     * @return the grid index of {@code day}, or -1 if it is not a teaching day
+     */
+    public int dayIndex(DayOfWeek day) {
+        return dayIndexByDow[day.getValue() - 1];
+    }
+
+    /**
+     * @return the grid index of {@code time}, or -1 if it is not a slot start
+     */
+    public int slotIndex(LocalTime time) {
+        if (time.getMinute() != 0 || time.getSecond() != 0 || time.getNano() != 0) return -1;
+        return slotIndexByHour[time.getHour()];
+    }
+
+    /**
+     * Bit position of a (day, slot) cell within a week mask.
+     */
+    public int bit(int dayIndex, int slotIndex) {
+        return dayIndex * slots.length + slotIndex;
+    }
+
+    /**
+     * @return the bit position of the cell, or -1 if the day or time is outside the grid
+     */
+    public int bit(DayOfWeek day, LocalTime time) {
+        int d = dayIndex(day);
+        int s = slotIndex(time);
+        return d < 0 || s < 0 ? -1 : bit(d, s);
+    }
+
+    /**
+     * @return the mask covering every slot of the given day
+     */
+    public long dayMask(int dayIndex) {
+        return dayMasks[dayIndex];
+    }
+
+    public int dayOfBit(int bit) {
+        return bit / slots.length;
+    }
+
+    public int slotOfBit(int bit) {
+        return bit % slots.length;
+    }
+
+    /**
+     * Checks whether a block of {@code duration} back-to-back hours starting at the given
+     * cell stays inside the day without crossing a gap such as the lunch break.
+     *
+     * @param bit      the block's first cell
+     * @param duration the block length in hours
+     * @return true if every hour of the block is a slot of the same day
+     */
+    public boolean isContiguousBlock(int bit, int duration) {
+        return duration >= 1 && contiguousFrom[slotOfBit(bit)] >= duration;
+    }
+}
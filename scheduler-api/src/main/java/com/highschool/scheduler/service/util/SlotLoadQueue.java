@@ -0,0 +1,124 @@
+package com.highschool.scheduler.service.util;
+
+import java.util.Arrays;
+import java.util.random.RandomGenerator;
+
+/**
+ * Bucket queue over the cells of a {@link SlotGrid}, keyed by how many hours
+ * have been scheduled to start in each cell across the whole school.
+ * <p>
+ * Every bucket is a single {@code long} mask of the cells at that load, so the
+ * least-loaded cells are available directly instead of scanning a map of
+ * {@code "DAY|HH:mm"} keys and parsing them back.
+ */
+public final class SlotLoadQueue {
+    private final SlotGrid grid;
+    private final int[] load;
+    private long[] cellsByLoad = new long[16];
+    private int minLoad;
+
+    /**
+     * Creates a queue with every cell of the grid at load zero.
+     *
+     * @param grid the slot grid to balance over
+     */
+    public SlotLoadQueue(SlotGrid grid) {
+        this.grid = grid;
+        this.load = new int[grid.size()];
+        this.cellsByLoad[0] = grid.size() == Long.SIZE ? -1L : (1L << grid.size()) - 1;
+    }
+
+    public SlotGrid grid() {
+        return grid;
+    }
+
+    /**
+     * @return the number of hours scheduled to start in the given cell
+     */
+    public int load(int bit) {
+        return load[bit];
+    }
+
+    /**
+     * @return the lowest load of any cell
+     */
+    public int minLoad() {
+        return minLoad;
+    }
+
+    /**
+     * @return the mask of all cells currently at {@link #minLoad()}
+     */
+    public long minLoadCells() {
+        return cellsByLoad[minLoad];
+    }
+
+    /**
+     * @return the mask of all cells currently at exactly {@code load} hours
+     */
+    public long cellsAtLoad(int load) {
+        return load < cellsByLoad.length ? cellsByLoad[load] : 0L;
+    }
+
+    /**
+     * Writes the cells at the minimum load into {@code out} in random order.
+     *
+     * @param out    destination, at least {@link SlotGrid#size()} long
+     * @param random source of randomness for the tie-breaking order
+     * @return the number of cells written
+     */
+    public int shuffledMinLoadCells(int[] out, RandomGenerator random) {
+        long cells = cellsByLoad[minLoad];
+        int n = 0;
+        while (cells != 0) {
+            out[n++] = Long.numberOfTrailingZeros(cells);
+            cells &= cells - 1;
+        }
+        for (int i = n - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int tmp = out[i];
+            out[i] = out[j];
+            out[j] = tmp;
+        }
+        return n;
+    }
+
+    /**
+     * Adds scheduled hours to a cell and moves it to its new bucket.
+     *
+     * @param bit   the grid cell the section starts in
+     * @param hours the number of hours added
+     */
+    public void add(int bit, int hours) {
+        if (hours <= 0) return;
+        int from = load[bit];
+        int to = from + hours;
+        if (to >= cellsByLoad.length) {
+            cellsByLoad = Arrays.copyOf(cellsByLoad, Math.max(cellsByLoad.length * 2, to + 1));
+        }
+        cellsByLoad[from] &= ~(1L << bit);
+        cellsByLoad[to] |= 1L << bit;
+        load[bit] = to;
+        while (cellsByLoad[minLoad] == 0 && minLoad < to) minLoad++;
+    }
+
+    /**
+     * Removes scheduled hours from a cell and moves it to its new bucket.
+     *
+     * @param bit   the grid cell the section started in
+     * @param hours the number of hours removed
+     * @throws IllegalArgumentException if the cell has fewer hours than removed
+     */
+    public void remove(int bit, int hours) {
+        if (hours <= 0) return;
+        int from = load[bit];
+        int to = from - hours;
+        if (to < 0) {
+            throw new IllegalArgumentException("Cell " + bit + " has only " + from + " hours scheduled");
+        }
+        cellsByLoad[from] &= ~(1L << bit);
+        cellsByLoad[to] |= 1L << bit;
+        load[bit] = to;
+        minLoad = Math.min(minLoad, to);
+    }
+}
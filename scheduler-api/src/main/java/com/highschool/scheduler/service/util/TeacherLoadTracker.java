@@ -1,32 +1,64 @@
 package com.highschool.scheduler.service.util;
 
-import com.highschool.scheduler.model.Teacher;
+import com.highschool.scheduler.model.Classroom;
 
 import java.time.DayOfWeek;
 import java.time.LocalTime;
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.EnumMap;
+import java.util.Arrays;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
-import java.util.stream.Collectors;
 
 /**
  * Tracks and manages teaching loads, schedules, and room usage
  * for teachers during schedule generation.
  * Provides utilities to check teacher and room availability,
  * teaching hours, and enforce consecutive hour constraints.
+ * <p>
+ * Teachers and rooms are mapped to dense int indices on first use and each
+ * resource's week is kept as a single {@code long} over the {@link SlotGrid},
+ * so probes are a hash lookup plus a bit test and hour counts come from
+ * {@link Long#bitCount(long)}.
+ * Alongside the week masks, each teacher-day keeps a 24-bit mask of occupied
+ * clock hours so the consecutive-hours rule is a constant number of shifts and ANDs.
+ * Rooms registered through {@link #addRoomPool(List)} are additionally kept in a
+ * {@link RoomUsageIndex} so the least-used free room can be found without scanning.
  */
 public final class TeacherLoadTracker {
-    private final Map<Long, Map<DayOfWeek, Set<LocalTime>>> teacherSlots = new HashMap<>();
-    private final Map<Long, Map<DayOfWeek, Integer>> teacherDaily = new HashMap<>();
-    private final Map<Long, Integer> teacherWeekly = new HashMap<>();
-    private final Set<String> roomBusy = new HashSet<>();
-
+    private static final int INITIAL_CAPACITY = 64;
     private static final int MAX_CONSECUTIVE_HOURS = 2;
+    private static final int HOURS_PER_DAY = 24;
+    private static final int FULL_DAY = (1 << HOURS_PER_DAY) - 1;
+
+    private final SlotGrid grid;
+    private final DenseIndex teachers = new DenseIndex();
+    private final DenseIndex rooms = new DenseIndex();
+    private long[] teacherWeek = new long[INITIAL_CAPACITY];
+    private long[] roomWeek = new long[INITIAL_CAPACITY];
+    private int[] teacherDayHours;
+    private RoomUsageIndex[] poolOfRoom = new RoomUsageIndex[INITIAL_CAPACITY];
+    private int[] positionInPool = new int[INITIAL_CAPACITY];
+
+    /**
+     * Creates a tracker over the {@link SlotGrid#STANDARD} grid.
+     */
+    public TeacherLoadTracker() {
+        this(SlotGrid.STANDARD);
+    }
+
+    /**
+     * Creates a tracker over the given grid.
+     *
+     * @param grid the weekly slot grid occupancy is recorded on
+     */
+    public TeacherLoadTracker(SlotGrid grid) {
+        this.grid = grid;
+        this.teacherDayHours = new int[INITIAL_CAPACITY * grid.dayCount()];
+    }
+
+    public SlotGrid grid() {
+        return grid;
+    }
 
     /**
      * Checks if a teacher is busy (already scheduled) at the given day and time slot.
@@ -37,8 +69,9 @@ public final class TeacherLoadTracker {
      * @return true if the teacher is busy at this slot, false otherwise
      */
     public boolean isTeacherBusy(Long teacherId, DayOfWeek day, LocalTime slot) {
-        return teacherSlots.getOrDefault(teacherId, Map.of())
-                .getOrDefault(day, Set.of()).contains(slot);
+        int t = teachers.indexOf(teacherId);
+        int bit = grid.bit(day, slot);
+        return t >= 0 && bit >= 0 && (teacherWeek[t] & (1L << bit)) != 0;
     }
 
     /**
@@ -50,7 +83,44 @@ public final class TeacherLoadTracker {
      * @return true if the room is busy at this slot, false otherwise
      */
     public boolean isRoomBusy(Long roomId, DayOfWeek day, LocalTime slot) {
-        return roomBusy.contains(key(roomId, day, slot));
+        int r = rooms.indexOf(roomId);
+        int bit = grid.bit(day, slot);
+        return r >= 0 && bit >= 0 && (roomWeek[r] & (1L << bit)) != 0;
+    }
+
+    /**
+     * Gets the number of hours a room has been scheduled for the week.
+     *
+     * @param roomId the room's unique ID
+     * @return the number of scheduled hours for the room this week
+     */
+    public int roomUsage(Long roomId) {
+        int r = rooms.indexOf(roomId);
+        return r < 0 ? 0 : Long.bitCount(roomWeek[r]);
+    }
+
+    /**
+     * Registers a pool of interchangeable rooms whose usage should be indexed,
+     * so that {@link RoomUsageIndex#pickLeastUsedFree} stays current as sections are placed.
+     *
+     * @param pool the rooms of the pool, e.g. all rooms of one room type
+     * @return the usage index maintained for the pool
+     * @throws IllegalStateException if a room is already part of another pool
+     */
+    public RoomUsageIndex addRoomPool(List<Classroom> pool) {
+        RoomUsageIndex index = new RoomUsageIndex(pool, grid);
+        for (int i = 0; i < pool.size(); i++) {
+            int r = registerRoom(pool.get(i).getId());
+            if (poolOfRoom[r] != null) {
+                throw new IllegalStateException("Room " + pool.get(i).getId() + " already belongs to a pool");
+            }
+            if (roomWeek[r] != 0) {
+                throw new IllegalStateException("Room " + pool.get(i).getId() + " is already scheduled");
+            }
+            poolOfRoom[r] = index;
+            positionInPool[r] = i;
+        }
+        return index;
     }
 
     /**
@@ -60,7 +130,8 @@ public final class TeacherLoadTracker {
      * @return the number of scheduled hours for the teacher this week
      */
     public int weeklyHours(Long teacherId) {
-        return teacherWeekly.getOrDefault(teacherId, 0);
+        int t = teachers.indexOf(teacherId);
+        return t < 0 ? 0 : Long.bitCount(teacherWeek[t]);
     }
 
     /**
@@ -71,8 +142,9 @@ public final class TeacherLoadTracker {
      * @return the number of scheduled hours for the teacher on that day
      */
     public int teacherDailyHours(Long teacherId, DayOfWeek day) {
-        return teacherDaily.getOrDefault(teacherId, Map.of())
-                .getOrDefault(day, 0);
+        int t = teachers.indexOf(teacherId);
+        int d = grid.dayIndex(day);
+        return t < 0 || d < 0 ? 0 : Long.bitCount(teacherWeek[t] & grid.dayMask(d));
     }
 
     /**
@@ -83,16 +155,58 @@ public final class TeacherLoadTracker {
      * @param roomId the room's unique ID
      * @param day the day of week
      * @param slot the start time slot
+     * @throws IllegalArgumentException if the day and slot are not part of the grid
      */
     public void markPlaced(Long teacherId, Long roomId, DayOfWeek day, LocalTime slot) {
-        teacherSlots.computeIfAbsent(teacherId, k -> new EnumMap<>(DayOfWeek.class))
-                .computeIfAbsent(day, k -> new HashSet<>()).add(slot);
+        int bit = grid.bit(day, slot);
+        if (bit < 0) {
+            throw new IllegalArgumentException("Slot " + day + " " + slot + " is outside the schedule grid");
+        }
+        int t = teachers.register(teacherId);
+        int r = registerRoom(roomId);
+        if (t >= teacherWeek.length) {
+            teacherWeek = Arrays.copyOf(teacherWeek, teacherWeek.length * 2);
+            teacherDayHours = Arrays.copyOf(teacherDayHours, teacherDayHours.length * 2);
+        }
 
-        teacherDaily.computeIfAbsent(teacherId, k -> new EnumMap<>(DayOfWeek.class))
-                .merge(day, 1, Integer::sum);
+        teacherWeek[t] |= 1L << bit;
+        teacherDayHours[t * grid.dayCount() + grid.dayOfBit(bit)] |= 1 << slot.getHour();
+        roomWeek[r] |= 1L << bit;
+        if (poolOfRoom[r] != null) poolOfRoom[r].recordPlaced(positionInPool[r], bit);
+    }
 
-        teacherWeekly.merge(teacherId, 1, Integer::sum);
-        roomBusy.add(key(roomId, day, slot));
+    /**
+     * Frees a teacher and room at the given day and time slot, undoing {@link #markPlaced}.
+     * Slots that are not occupied are left untouched.
+     *
+     * @param teacherId the teacher's unique ID
+     * @param roomId the room's unique ID
+     * @param day the day of week
+     * @param slot the start time slot
+     */
+    public void release(Long teacherId, Long roomId, DayOfWeek day, LocalTime slot) {
+        int bit = grid.bit(day, slot);
+        if (bit < 0) return;
+        int t = teachers.indexOf(teacherId);
+        if (t >= 0) {
+            teacherWeek[t] &= ~(1L << bit);
+            teacherDayHours[t * grid.dayCount() + grid.dayOfBit(bit)] &= ~(1 << slot.getHour());
+        }
+        int r = rooms.indexOf(roomId);
+        if (r >= 0 && (roomWeek[r] & (1L << bit)) != 0) {
+            roomWeek[r] &= ~(1L << bit);
+            if (poolOfRoom[r] != null) poolOfRoom[r].recordReleased(positionInPool[r], bit);
+        }
+    }
+
+    private int registerRoom(Long roomId) {
+        int r = rooms.register(roomId);
+        if (r >= roomWeek.length) {
+            roomWeek = Arrays.copyOf(roomWeek, roomWeek.length * 2);
+            poolOfRoom = Arrays.copyOf(poolOfRoom, poolOfRoom.length * 2);
+            positionInPool = Arrays.copyOf(positionInPool, positionInPool.length * 2);
+        }
+        return r;
     }
 
     /**
@@ -105,44 +219,53 @@ public final class TeacherLoadTracker {
      * @return true if this assignment would exceed the maximum consecutive hours, false otherwise
      */
     public boolean wouldExceedConsecutiveHours(Long teacherId, DayOfWeek day, LocalTime proposedStart, int duration) {
-        Set<LocalTime> occupied = teacherSlots
-                .getOrDefault(teacherId, Map.of())
-                .getOrDefault(day, Set.of());
-
-        // Build list of hours this session would occupy
-        List<LocalTime> newSlots = new ArrayList<>();
-        for (int i = 0; i < duration; i++) newSlots.add(proposedStart.plusHours(i));
-
-        // Combine occupied + new slots
-        List<Integer> hours = occupied.stream()
-                .map(LocalTime::getHour)
-                .collect(Collectors.toCollection(ArrayList::new));
-        newSlots.forEach(s -> hours.add(s.getHour()));
-
-        Collections.sort(hours);
-
-        // Count consecutive hours
-        int maxConsecutive = 1, current = 1;
-        for (int i = 1; i < hours.size(); i++) {
-            if (hours.get(i) == hours.get(i - 1) + 1) {
-                current++;
-                maxConsecutive = Math.max(maxConsecutive, current);
-            } else {
-                current = 1;
-            }
+        int t = teachers.indexOf(teacherId);
+        int d = grid.dayIndex(day);
+        int occupied = t < 0 || d < 0 ? 0 : teacherDayHours[t * grid.dayCount() + d];
+        int proposed = hourBlock(proposedStart.getHour(), duration);
+
+        // An hour both occupied and proposed appears twice in the combined hour list,
+        // which breaks a run at that hour, so it may only sit at either end of a run.
+        int union = occupied | proposed;
+        int repeated = occupied & proposed;
+
+        // Bit h survives iff hours h..h+MAX are all present without an inner repeat
+        int run = union;
+        for (int k = 1; k <= MAX_CONSECUTIVE_HOURS; k++) {
+            run &= union >>> k;
+            if (k < MAX_CONSECUTIVE_HOURS) run &= ~(repeated >>> k);
         }
-        return maxConsecutive > MAX_CONSECUTIVE_HOURS;
+        return run != 0;
     }
 
     /**
-     * Builds a unique key string for use in room schedule tracking.
-     *
-     * @param id the room or teacher ID
-     * @param dayOfWeek the day of week
-     * @param timeSlot the time slot
-     * @return a unique string representing the resource, day, and time
+     * Builds the mask of clock hours covered by a block, wrapping past midnight
+     * the same way {@link LocalTime#plusHours(long)} does.
      */
-    private static String key(Long id, DayOfWeek dayOfWeek, LocalTime timeSlot) {
-        return id + "|" + dayOfWeek + "|" + timeSlot;
+    private static int hourBlock(int startHour, int duration) {
+        if (duration <= 0) return 0;
+        if (duration >= HOURS_PER_DAY) return FULL_DAY;
+        int block = (1 << duration) - 1;
+        return ((block << startHour) | (block >>> (HOURS_PER_DAY - startHour))) & FULL_DAY;
+    }
+
+    /**
+     * Assigns dense, zero-based indices to entity ids in the order they are first seen.
+     */
+    private static final class DenseIndex {
+        private final Map<Long, Integer> indexById = new HashMap<>();
+
+        int indexOf(Long id) {
+            Integer idx = indexById.get(id);
+            return idx == null ? -1 : idx;
+        }
+
+        int register(Long id) {
+            Integer idx = indexById.get(id);
+            if (idx != null) return idx;
+            int next = indexById.size();
+            indexById.put(id, next);
+            return next;
+        }
     }
 }
@@ -0,0 +1,20 @@
+-- Indexes for the repository queries on the request path; each one is checked by QueryPlanTest.
+-- The "no duplicate enrolls" rule is already the UNIQUE(student_id, course_section_id) of V1.
+
+-- Seat counts per section and date are answered from the index alone
+DROP INDEX idx_enroll_section;
+CREATE INDEX idx_enroll_section_date
+  ON student_section_enrollments(course_section_id, enrolled_date);
+
+-- Progress summaries read only status and course_id per student
+DROP INDEX idx_student_course_history_student;
+CREATE INDEX idx_student_course_history_student_status
+  ON student_course_history(student_id, status, course_id);
+
+-- Login looks up e-mails case-insensitively
+CREATE INDEX idx_students_email_nocase ON students(email COLLATE NOCASE);
+
+CREATE INDEX idx_teachers_email_nocase ON teachers(email COLLATE NOCASE);
+
+-- The one active semester, read at startup and after each generation
+CREATE INDEX idx_semesters_active ON semesters(is_active) WHERE is_active = 1;
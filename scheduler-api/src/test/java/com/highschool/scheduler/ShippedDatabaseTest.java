@@ -0,0 +1,36 @@
+package com.highschool.scheduler;
+
+import org.junit.jupiter.api.AfterAll;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * Base class for Spring Boot tests that run against their own copy of the shipped
+ * {@code maplewood_school.sqlite}, made in a temporary directory that is deleted after the class.
+ */
+public abstract class ShippedDatabaseTest {
+
+    /** The temporary directory holding the copy; tests may put further files in it. */
+    protected static Path dir;
+
+    @DynamicPropertySource
+    static void database(DynamicPropertyRegistry registry) throws IOException {
+        dir = Files.createTempDirectory("scheduler-test");
+        Path db = dir.resolve("school.sqlite");
+        Files.copy(Path.of("maplewood_school.sqlite"), db, StandardCopyOption.REPLACE_EXISTING);
+        registry.add("spring.datasource.url", () -> "jdbc:sqlite:" + db);
+    }
+
+    @AfterAll
+    static void cleanup() throws IOException {
+        try (var files = Files.list(dir)) {
+            for (Path f : files.toList()) Files.deleteIfExists(f);
+        }
+        Files.deleteIfExists(dir);
+    }
+}
@@ -0,0 +1,90 @@
+package com.highschool.scheduler.config;
+
+import com.highschool.scheduler.ShippedDatabaseTest;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "scheduler.instrumentation.statement-budget=1")
+@AutoConfigureMockMvc
+class QueryStatisticsConfigTest extends ShippedDatabaseTest {
+
+    private static final String ELIGIBLE_SECTIONS = "EnrollmentController.getEligibleSections";
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    MeterRegistry registry;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setup() {
+        registry.clear();
+    }
+
+    @Test
+    void testStatementsAreRecordedPerHandler() throws Exception {
+        // Act
+        mockMvc.perform(get("/api/students/1/eligible-sections")).andExpect(status().isOk());
+        mockMvc.perform(get("/api/students/1/eligible-sections")).andExpect(status().isOk());
+
+        // Assert
+        DistributionSummary statements = registry.get("scheduler.requests.sql.statements")
+                .tag("handler", ELIGIBLE_SECTIONS).summary();
+        assertThat(statements.count()).isEqualTo(2);
+        assertThat(statements.max()).isBetween(1.0, 5.0);
+        Timer time = registry.get("scheduler.requests.sql.time").tag("handler", ELIGIBLE_SECTIONS).timer();
+        assertThat(time.count()).isEqualTo(2);
+        assertThat(time.totalTime(TimeUnit.NANOSECONDS)).isPositive();
+    }
+
+    @Test
+    void testJdbcTemplateStatementsAreCounted() {
+        // Act
+        RequestStatistics.start();
+        jdbcTemplate.queryForObject("SELECT COUNT(*) FROM semesters", Integer.class);
+        jdbcTemplate.batchUpdate("UPDATE semesters SET name = name WHERE id = -1",
+                "UPDATE semesters SET name = name WHERE id = -2");
+        RequestStatistics stats = RequestStatistics.stop();
+
+        // Assert: the batch counts once
+        assertThat(stats.statements()).isEqualTo(2);
+        assertThat(stats.statementNanos()).isPositive();
+    }
+
+    @Test
+    void testEntityLoadsAreRecorded() throws Exception {
+        // Act
+        mockMvc.perform(get("/api/students/1")).andExpect(status().isOk());
+
+        // Assert
+        assertThat(registry.get("scheduler.requests.entity.loads")
+                .tag("handler", "StudentController.getStudent").summary().totalAmount()).isEqualTo(1.0);
+    }
+
+    @Test
+    void testRequestsOverTheBudgetAreCounted() throws Exception {
+        // Act
+        mockMvc.perform(get("/api/students/1/eligible-sections")).andExpect(status().isOk());
+
+        // Assert
+        assertThat(registry.get("scheduler.requests.over.budget")
+                .tag("handler", ELIGIBLE_SECTIONS).counter().count()).isEqualTo(1.0);
+    }
+}
@@ -0,0 +1,82 @@
+package com.highschool.scheduler.config;
+
+import com.highschool.scheduler.ShippedDatabaseTest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@ActiveProfiles("sqlite-wal")
+class SqliteWalDataSourceConfigTest extends ShippedDatabaseTest {
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    @Test
+    void testDatabaseRunsInWalMode() {
+        assertThat(jdbcTemplate.queryForObject("PRAGMA journal_mode", String.class)).isEqualToIgnoringCase("wal");
+    }
+
+    @Test
+    void testReadOnlyTransactionsRunOnReadOnlyConnections() {
+        // Arrange
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+
+        // Act + Assert
+        assertThatThrownBy(() -> readOnly.executeWithoutResult(status ->
+                jdbcTemplate.update("UPDATE semesters SET name = name WHERE id = -1")))
+                .hasMessageContaining("readonly");
+        Integer written = new TransactionTemplate(transactionManager).execute(status ->
+                jdbcTemplate.update("UPDATE semesters SET name = name WHERE id = -1"));
+        assertThat(written).isZero();
+    }
+
+    @Test
+    void testReadsProceedWhileAWriteTransactionIsOpen() throws Exception {
+        // Arrange
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        Integer before = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM semesters", Integer.class);
+        CountDownLatch written = new CountDownLatch(1);
+        CountDownLatch read = new CountDownLatch(1);
+
+        // Act: hold the writer with an uncommitted insert while a read-only transaction runs
+        CompletableFuture<Void> writer = CompletableFuture.runAsync(() ->
+                new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+                    jdbcTemplate.update("INSERT INTO semesters (name, year, order_in_year, is_active) VALUES ('Fall', 2099, 1, 0)");
+                    written.countDown();
+                    await(read);
+                    status.setRollbackOnly();
+                }));
+        assertThat(written.await(10, TimeUnit.SECONDS)).isTrue();
+        Integer seen = readOnly.execute(status -> jdbcTemplate.queryForObject("SELECT COUNT(*) FROM semesters", Integer.class));
+        read.countDown();
+        writer.get(10, TimeUnit.SECONDS);
+
+        // Assert
+        assertThat(seen).isEqualTo(before);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -1,7 +1,13 @@
 package com.highschool.scheduler.controller;
 
+import com.highschool.scheduler.dto.BulkEnrollmentReport;
+import com.highschool.scheduler.dto.BulkEnrollmentResult;
+import com.highschool.scheduler.dto.EnrollmentRequestDTO;
+import com.highschool.scheduler.dto.StudentProgressDTO;
 import com.highschool.scheduler.dto.ValidationResponse;
+import com.highschool.scheduler.service.BulkEnrollmentService;
 import com.highschool.scheduler.service.EnrollmentService;
+import com.highschool.scheduler.service.StudentProgressService;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
@@ -11,6 +17,7 @@ import org.springframework.test.web.servlet.MockMvc;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
@@ -26,6 +33,12 @@ class EnrollmentControllerTest {
     @MockBean
     EnrollmentService enrollmentService;
 
+    @MockBean
+    BulkEnrollmentService bulkEnrollmentService;
+
+    @MockBean
+    StudentProgressService progressService;
+
     @Test
     void testGetSchedule() throws Exception {
         when(enrollmentService.getSchedule(1L)).thenReturn(List.of());
@@ -55,4 +68,60 @@ class EnrollmentControllerTest {
 
         mockMvc.perform(get("/api/students/1/eligible-sections")).andExpect(status().isOk());
     }
+
+    @Test
+    void testEnrollBatch() throws Exception {
+        var rows = List.of(
+                new EnrollmentRequestDTO(1L, 5L, LocalDate.of(2024, 9, 2)),
+                new EnrollmentRequestDTO(2L, 5L, LocalDate.of(2024, 9, 2)));
+        var report = new BulkEnrollmentReport(1, 1, List.of(
+                new BulkEnrollmentResult(0, 1L, 5L, LocalDate.of(2024, 9, 2), true, null),
+                new BulkEnrollmentResult(1, 2L, 5L, LocalDate.of(2024, 9, 2), false, "Room is full for this section & date 2024-09-02")));
+        when(bulkEnrollmentService.enrollAll(rows)).thenReturn(report);
+
+        mockMvc.perform(post("/api/students/enrollments/batch").contentType(MediaType.APPLICATION_JSON)
+                        .content("[{\"studentId\":1,\"sectionId\":5,\"enrolledDate\":\"2024-09-02\"},"
+                                + "{\"studentId\":2,\"sectionId\":5,\"enrolledDate\":\"2024-09-02\"}]"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.accepted").value(1))
+                .andExpect(jsonPath("$.results[1].accepted").value(false));
+    }
+
+    @Test
+    void testGetEligibleDatesForCourseSections() throws Exception {
+        when(enrollmentService.getEligibleDatesForSections(List.of(5L, 6L)))
+                .thenReturn(Map.of(5L, List.of(LocalDate.of(2024, 9, 2))));
+
+        mockMvc.perform(get("/api/students/course-sections/eligible-dates").param("sectionIds", "5,6"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$['5'][0]").value("2024-09-02"));
+    }
+
+    @Test
+    void testGetProgress() throws Exception {
+        when(progressService.get(1L)).thenReturn(progress(1L, "Ryan Adams", 0));
+
+        mockMvc.perform(get("/api/students/1/progress"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.studentName").value("Ryan Adams"))
+                .andExpect(jsonPath("$.creditsRequired").value(30));
+    }
+
+    @Test
+    void testGetProgressForGradeLevel() throws Exception {
+        when(progressService.forGradeLevel(9)).thenReturn(List.of(
+                progress(1L, "Ryan Adams", 2), progress(2L, "Mary Lewis", 5)));
+
+        mockMvc.perform(get("/api/students/progress").param("gradeLevel", "9"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[1].studentId").value(2))
+                .andExpect(jsonPath("$[1].maxCoursesReached").value(true));
+    }
+
+    private static StudentProgressDTO progress(Long studentId, String name, int planned) {
+        return new StudentProgressDTO(studentId, name, "student@example.edu", 9, 4.0, 3.0, 30, 27.0, 10.0,
+                planned, planned >= 5);
+    }
 }
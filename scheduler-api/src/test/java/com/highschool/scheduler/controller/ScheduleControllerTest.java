@@ -1,7 +1,12 @@
 package com.highschool.scheduler.controller;
 
+import com.highschool.scheduler.dto.GeneratedSchedule;
+import com.highschool.scheduler.dto.GenerationOptions;
 import com.highschool.scheduler.dto.ScheduleEventDTO;
+import com.highschool.scheduler.dto.ScheduleJobDTO;
+import com.highschool.scheduler.service.JobQueueFullException;
 import com.highschool.scheduler.service.ScheduleGeneratorService;
+import com.highschool.scheduler.service.ScheduleJobService;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
@@ -10,10 +15,14 @@ import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.time.DayOfWeek;
+import java.time.Duration;
 import java.time.LocalTime;
 import java.util.List;
+import java.util.NoSuchElementException;
 
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -27,6 +36,9 @@ class ScheduleControllerTest {
     @MockBean
     private ScheduleGeneratorService scheduleGeneratorService;
 
+    @MockBean
+    private ScheduleJobService scheduleJobService;
+
     @Test
     void testGenerateSchedule() throws Exception {
 
@@ -42,12 +54,183 @@ class ScheduleControllerTest {
                 null
         );
 
-        when(scheduleGeneratorService.generateForActiveSemester())
-                .thenReturn(List.of(dto));
+        when(scheduleGeneratorService.generateForActiveSemester(GenerationOptions.DEFAULT))
+                .thenReturn(new GeneratedSchedule(42L, List.of(dto)));
 
         mockMvc.perform(post("/api/schedule/generate")
                         .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk())
+                .andExpect(header().string("X-Schedule-Seed", "42"))
                 .andExpect(jsonPath("$[0].courseCode").value("MAT101"));
     }
-}
\ No newline at end of file
+
+    @Test
+    void testGenerateScheduleInParallel() throws Exception {
+
+        ScheduleEventDTO dto = new ScheduleEventDTO(
+                2L,
+                DayOfWeek.TUESDAY,
+                LocalTime.of(13, 0),
+                LocalTime.of(15, 0),
+                "SCI101",
+                "Biology",
+                "Jane Doe",
+                "Lab-1",
+                null
+        );
+
+        when(scheduleGeneratorService.generateForActiveSemester(new GenerationOptions(true, 1, Duration.ZERO, null)))
+                .thenReturn(new GeneratedSchedule(42L, List.of(dto)));
+
+        mockMvc.perform(post("/api/schedule/generate")
+                        .param("parallel", "true")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].courseCode").value("SCI101"));
+    }
+
+    @Test
+    void testGenerateScheduleWithOptimizeBudget() throws Exception {
+
+        ScheduleEventDTO dto = new ScheduleEventDTO(
+                3L,
+                DayOfWeek.WEDNESDAY,
+                LocalTime.of(10, 0),
+                LocalTime.of(11, 0),
+                "ENG101",
+                "English I",
+                "Ann Lee",
+                "Room-102",
+                null
+        );
+
+        when(scheduleGeneratorService.generateForActiveSemester(new GenerationOptions(false, 1, Duration.ofMillis(500), null)))
+                .thenReturn(new GeneratedSchedule(42L, List.of(dto)));
+
+        mockMvc.perform(post("/api/schedule/generate")
+                        .param("optimizeMillis", "500")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].courseCode").value("ENG101"));
+    }
+
+    @Test
+    void testGenerateScheduleBestOfAttempts() throws Exception {
+
+        ScheduleEventDTO dto = new ScheduleEventDTO(
+                4L,
+                DayOfWeek.THURSDAY,
+                LocalTime.of(14, 0),
+                LocalTime.of(15, 0),
+                "HIS101",
+                "World History",
+                "Sam Park",
+                "Room-103",
+                null
+        );
+
+        when(scheduleGeneratorService.generateForActiveSemester(new GenerationOptions(false, 8, Duration.ZERO, null)))
+                .thenReturn(new GeneratedSchedule(42L, List.of(dto)));
+
+        mockMvc.perform(post("/api/schedule/generate")
+                        .param("attempts", "8")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].courseCode").value("HIS101"));
+    }
+
+    @Test
+    void testGenerateScheduleRejectsTooManyAttempts() throws Exception {
+
+        mockMvc.perform(post("/api/schedule/generate")
+                        .param("attempts", String.valueOf(GenerationOptions.MAX_ATTEMPTS + 1))
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void testGenerateScheduleWithSeed() throws Exception {
+
+        ScheduleEventDTO dto = new ScheduleEventDTO(
+                5L,
+                DayOfWeek.FRIDAY,
+                LocalTime.of(9, 0),
+                LocalTime.of(11, 0),
+                "ART101",
+                "Visual Arts",
+                "Kim Roe",
+                "Studio-1",
+                null
+        );
+
+        when(scheduleGeneratorService.generateForActiveSemester(new GenerationOptions(false, 1, Duration.ZERO, 1234L)))
+                .thenReturn(new GeneratedSchedule(1234L, List.of(dto)));
+
+        mockMvc.perform(post("/api/schedule/generate")
+                        .param("seed", "1234")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(header().string("X-Schedule-Seed", "1234"))
+                .andExpect(jsonPath("$[0].courseCode").value("ART101"));
+    }
+
+    @Test
+    void testSubmitGenerationJob() throws Exception {
+
+        ScheduleJobDTO job = new ScheduleJobDTO("job-1", "QUEUED", "PENDING", 0, 0, 0, null, null, null, null);
+        when(scheduleJobService.submit(new GenerationOptions(true, 1, Duration.ZERO, null)))
+                .thenReturn(job);
+
+        mockMvc.perform(post("/api/schedule/jobs")
+                        .param("parallel", "true"))
+                .andExpect(status().isAccepted())
+                .andExpect(header().string("Location", "/api/schedule/jobs/job-1"))
+                .andExpect(jsonPath("$.id").value("job-1"))
+                .andExpect(jsonPath("$.status").value("QUEUED"));
+    }
+
+    @Test
+    void testSubmitGenerationJobWhenQueueIsFull() throws Exception {
+
+        when(scheduleJobService.submit(GenerationOptions.DEFAULT))
+                .thenThrow(new JobQueueFullException("Too many schedule generation jobs queued; try again later"));
+
+        mockMvc.perform(post("/api/schedule/jobs"))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().exists("Retry-After"))
+                .andExpect(jsonPath("$.error").value("Too many schedule generation jobs queued; try again later"));
+    }
+
+    @Test
+    void testGetGenerationJobProgress() throws Exception {
+
+        ScheduleJobDTO job = new ScheduleJobDTO("job-2", "RUNNING", "GENERATING", 12, 57, 3, 840.0, null, null, null);
+        when(scheduleJobService.status("job-2")).thenReturn(job);
+
+        mockMvc.perform(get("/api/schedule/jobs/job-2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.coursesPlaced").value(12))
+                .andExpect(jsonPath("$.unplacedHours").value(3))
+                .andExpect(jsonPath("$.score").value(840.0));
+    }
+
+    @Test
+    void testUnknownGenerationJobIsNotFound() throws Exception {
+
+        when(scheduleJobService.status("missing")).thenThrow(new NoSuchElementException("No job"));
+
+        mockMvc.perform(get("/api/schedule/jobs/missing"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void testCancelGenerationJob() throws Exception {
+
+        ScheduleJobDTO job = new ScheduleJobDTO("job-3", "CANCELLED", "PENDING", 0, 0, 0, null, null, null, null);
+        when(scheduleJobService.cancel("job-3")).thenReturn(job);
+
+        mockMvc.perform(delete("/api/schedule/jobs/job-3"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("CANCELLED"));
+    }
+}
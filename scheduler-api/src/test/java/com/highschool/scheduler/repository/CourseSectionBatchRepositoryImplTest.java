@@ -0,0 +1,100 @@
+package com.highschool.scheduler.repository;
+
+import com.highschool.scheduler.model.Classroom;
+import com.highschool.scheduler.model.Course;
+import com.highschool.scheduler.model.CourseSection;
+import com.highschool.scheduler.model.Semester;
+import com.highschool.scheduler.model.Teacher;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CourseSectionBatchRepositoryImplTest {
+
+    private SingleConnectionDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private CourseSectionBatchRepositoryImpl repository;
+
+    @BeforeEach
+    void setup() {
+        dataSource = new SingleConnectionDataSource("jdbc:sqlite::memory:", true);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("""
+                CREATE TABLE course_sections (
+                    id INTEGER PRIMARY KEY AUTOINCREMENT,
+                    course_id INTEGER NOT NULL, teacher_id INTEGER NOT NULL,
+                    classroom_id INTEGER NOT NULL, semester_id INTEGER NOT NULL,
+                    day_of_week TEXT NOT NULL, start_time TEXT NOT NULL, end_time TEXT NOT NULL)
+                """);
+        repository = new CourseSectionBatchRepositoryImpl(jdbcTemplate);
+    }
+
+    @AfterEach
+    void teardown() {
+        dataSource.destroy();
+    }
+
+    @Test
+    void testIdsContinueAfterDeletedSectionsAndRowsMatchTheEntities() {
+        // Arrange: ids up to 3 were handed out before, then the sections were deleted
+        jdbcTemplate.update("INSERT INTO course_sections VALUES (3, 1, 1, 1, 1, 'MONDAY', '09:00', '10:00')");
+        jdbcTemplate.update("DELETE FROM course_sections");
+        List<CourseSection> sections = IntStream.range(0, 1200).mapToObj(i -> section(i % 5)).toList();
+
+        // Act
+        List<CourseSection> saved = repository.insertAll(sections);
+
+        // Assert
+        assertThat(saved).extracting(CourseSection::getId).startsWith(4L, 5L).endsWith(1203L);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM course_sections", Integer.class)).isEqualTo(1200);
+        Map<String, Object> row = jdbcTemplate.queryForMap("SELECT * FROM course_sections WHERE id = 5");
+        assertThat(row).containsEntry("course_id", 7).containsEntry("teacher_id", 8).containsEntry("classroom_id", 9)
+                .containsEntry("semester_id", 2).containsEntry("day_of_week", "TUESDAY")
+                .containsEntry("start_time", "09:30").containsEntry("end_time", "10:30");
+    }
+
+    @Test
+    void testSqliteKeepsCountingAfterTheReservedBlock() {
+        // Act
+        repository.insertAll(List.of(section(0), section(1)));
+        jdbcTemplate.update("INSERT INTO course_sections (course_id, teacher_id, classroom_id, semester_id, day_of_week, start_time, end_time) "
+                + "VALUES (1, 1, 1, 1, 'FRIDAY', '09:00', '10:00')");
+        List<CourseSection> next = repository.insertAll(List.of(section(2)));
+
+        // Assert
+        assertThat(jdbcTemplate.queryForList("SELECT id FROM course_sections ORDER BY id", Long.class)).containsExactly(1L, 2L, 3L, 4L);
+        assertThat(next.get(0).getId()).isEqualTo(4L);
+        assertThat(repository.insertAll(List.of())).isEmpty();
+    }
+
+    private static CourseSection section(int n) {
+        Course course = new Course();
+        course.setId(6L + n);
+        Teacher teacher = new Teacher();
+        teacher.setId(7L + n);
+        Classroom room = new Classroom();
+        room.setId(8L + n);
+        Semester semester = new Semester();
+        semester.setId(1L + n);
+
+        CourseSection s = new CourseSection();
+        s.setCourse(course);
+        s.setTeacher(teacher);
+        s.setClassroom(room);
+        s.setSemester(semester);
+        s.setDayOfWeek(DayOfWeek.of(1 + n));
+        s.setStartTime(LocalTime.of(9, 30 * n % 60));
+        s.setEndTime(LocalTime.of(10, 30 * n % 60));
+        return s;
+    }
+}
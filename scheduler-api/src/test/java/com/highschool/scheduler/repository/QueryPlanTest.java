@@ -0,0 +1,168 @@
+package com.highschool.scheduler.repository;
+
+import com.highschool.scheduler.ShippedDatabaseTest;
+import org.flywaydb.core.Flyway;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the repository queries of the request path against a migrated copy of the shipped
+ * database and checks with {@code EXPLAIN QUERY PLAN} that none of them scans a whole table.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.highschool.scheduler.repository.QueryPlanTest$RecordingInspector")
+class QueryPlanTest extends ShippedDatabaseTest {
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    @Autowired
+    StudentSectionEnrollmentRepository enrollmentRepo;
+
+    @Autowired
+    StudentRepository studentRepo;
+
+    @Autowired
+    TeacherRepository teacherRepo;
+
+    @Autowired
+    StudentCourseHistoryRepository historyRepo;
+
+    @Autowired
+    CourseSectionRepository sectionRepo;
+
+    @Autowired
+    SemesterRepository semesterRepo;
+
+    /** Collects the SQL Hibernate sends, so the plans are taken for the statements actually run. */
+    public static class RecordingInspector implements StatementInspector {
+        static final List<String> STATEMENTS = Collections.synchronizedList(new ArrayList<>());
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+
+    @BeforeEach
+    void setup() {
+        RecordingInspector.STATEMENTS.clear();
+    }
+
+    @Test
+    void testEnrollmentQueriesUseIndexes() {
+        // Act
+        enrollmentRepo.countByStudentIdAndSemesterId(1L, 1L);
+        enrollmentRepo.findEnrolledSections(1L, 1L);
+        enrollmentRepo.findByStudentAndSection(1L, 1L);
+        enrollmentRepo.countBySectionAndDateForSemester(1L);
+        enrollmentRepo.countBySectionAndDateForSections(List.of(1L, 2L));
+        enrollmentRepo.findEnrolledSections(1L);
+        enrollmentRepo.findEnrolledSlots(1L, 1L);
+        enrollmentRepo.findEnrolledSlotsByStudentIds(List.of(1L, 2L));
+        sectionRepo.findById(1L);
+        sectionRepo.findAllById(List.of(1L, 2L));
+
+        // Assert
+        assertNoTableScans();
+        assertThat(plan("SELECT COUNT(*) FROM student_section_enrollments WHERE course_section_id = ? AND enrolled_date = ?"))
+                .anyMatch(line -> line.contains("COVERING INDEX idx_enroll_section_date"));
+    }
+
+    @Test
+    void testStudentQueriesUseIndexes() {
+        // Act
+        studentRepo.findByEmailIgnoreCase("Ryan.Adams9@student.maplewood.edu");
+        teacherRepo.findByEmailIgnoreCase("nobody@maplewood.edu");
+        studentRepo.findProgressRow(1L);
+        studentRepo.findProgressRowsByGradeLevel(9);
+        historyRepo.findByStudentId(1L);
+        sectionRepo.findEligibleSections(1L, 1L, 9);
+        semesterRepo.findByIsActiveTrue();
+
+        // Assert
+        assertNoTableScans();
+        assertThat(plan("SELECT * FROM students WHERE email = ? COLLATE NOCASE LIMIT 1"))
+                .anyMatch(line -> line.contains("idx_students_email_nocase"));
+    }
+
+    @Test
+    void testSemesterDeletesUseIndexes() {
+        // Act: the statements are recorded even though the deletes are rolled back
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        tx.executeWithoutResult(status -> {
+            enrollmentRepo.deleteAllBySemesterId(1L);
+            sectionRepo.deleteAllBySemesterId(1L);
+            status.setRollbackOnly();
+        });
+
+        // Assert
+        assertNoTableScans();
+    }
+
+    @Test
+    void testMigrationsBuildAnEmptyDatabase() throws IOException {
+        // Arrange
+        Path empty = dir.resolve("empty.sqlite");
+        SingleConnectionDataSource dataSource = new SingleConnectionDataSource("jdbc:sqlite:" + empty, true);
+        try {
+            // Act
+            Flyway.configure().dataSource(dataSource).load().migrate();
+
+            // Assert
+            JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+            assertThat(jdbc.queryForList("SELECT name FROM sqlite_master WHERE type = 'index' AND name LIKE 'idx_%'", String.class))
+                    .contains("idx_enroll_section_date", "idx_students_email_nocase", "idx_semesters_active")
+                    .doesNotContain("idx_enroll_section");
+            assertThat(jdbc.queryForObject("SELECT COUNT(*) FROM sqlite_master WHERE type = 'trigger'", Integer.class)).isPositive();
+        } finally {
+            dataSource.destroy();
+        }
+    }
+
+    private void assertNoTableScans() {
+        List<String> statements = List.copyOf(RecordingInspector.STATEMENTS);
+        assertThat(statements).isNotEmpty();
+        for (String sql : statements) {
+            assertThat(plan(sql)).as(sql).noneMatch(line -> line.startsWith("SCAN "));
+        }
+    }
+
+    /** The plan of a statement with every parameter bound to null. */
+    private List<String> plan(String sql) {
+        return jdbcTemplate.execute((ConnectionCallback<List<String>>) connection -> {
+            try (PreparedStatement ps = connection.prepareStatement("EXPLAIN QUERY PLAN " + sql)) {
+                int parameters = ps.getParameterMetaData().getParameterCount();
+                for (int i = 1; i <= parameters; i++) ps.setNull(i, Types.NULL);
+                List<String> lines = new ArrayList<>();
+                try (ResultSet rs = ps.executeQuery()) {
+                    while (rs.next()) lines.add(rs.getString("detail"));
+                }
+                return lines;
+            }
+        });
+    }
+}
@@ -0,0 +1,94 @@
+package com.highschool.scheduler.service;
+
+import com.highschool.scheduler.model.Semester;
+import com.highschool.scheduler.repository.ClassroomRepository;
+import com.highschool.scheduler.repository.CourseRepository;
+import com.highschool.scheduler.repository.RoomTypeRepository;
+import com.highschool.scheduler.repository.SemesterRepository;
+import com.highschool.scheduler.repository.TeacherRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ActiveSemesterContextTest {
+
+    private SemesterRepository semesterRepo;
+    private ReferenceDataCache referenceData;
+    private ActiveSemesterContext context;
+
+    @BeforeEach
+    void setup() {
+        semesterRepo = Mockito.mock(SemesterRepository.class);
+        referenceData = new ReferenceDataCache(Mockito.mock(CourseRepository.class), Mockito.mock(TeacherRepository.class),
+                Mockito.mock(ClassroomRepository.class), Mockito.mock(RoomTypeRepository.class), semesterRepo);
+        context = new ActiveSemesterContext(referenceData);
+    }
+
+    @Test
+    void testSnapshotPrecomputesWeeksAndWeekdayDates() {
+        // Arrange
+        when(semesterRepo.findAll()).thenReturn(List.of(
+                semester(1L, false, LocalDate.of(2024, 1, 8), LocalDate.of(2024, 5, 24)),
+                semester(2L, true, LocalDate.of(2024, 9, 4), LocalDate.of(2024, 9, 30))));
+
+        // Act
+        ActiveSemesterContext.ActiveSemester active = context.require();
+
+        // Assert
+        assertThat(active.id()).isEqualTo(2L);
+        assertThat(active.version()).isEqualTo(1);
+        assertThat(active.weeks()).isEqualTo(4);
+        assertThat(active.weekStarts()).first().isEqualTo(LocalDate.of(2024, 9, 4));
+        assertThat(active.datesOn(DayOfWeek.MONDAY)).containsExactly(
+                LocalDate.of(2024, 9, 9), LocalDate.of(2024, 9, 16), LocalDate.of(2024, 9, 23), LocalDate.of(2024, 9, 30));
+        assertThat(active.datesOn(DayOfWeek.WEDNESDAY)).hasSize(4).first().isEqualTo(LocalDate.of(2024, 9, 4));
+        assertThat(context.require()).isSameAs(active);
+        verify(semesterRepo, times(1)).findAll();
+    }
+
+    @Test
+    void testNewVersionWhenReferenceDataIsReloaded() {
+        // Arrange
+        when(semesterRepo.findAll()).thenReturn(List.of(semester(1L, true, LocalDate.of(2024, 9, 2), LocalDate.of(2024, 12, 20))));
+        ActiveSemesterContext.ActiveSemester fall = context.require();
+        when(semesterRepo.findAll()).thenReturn(List.of(semester(2L, true, LocalDate.of(2025, 1, 6), LocalDate.of(2025, 5, 23))));
+
+        // Act
+        referenceData.onScheduleReplaced(new ScheduleReplacedEvent(1L));
+        ActiveSemesterContext.ActiveSemester spring = context.require();
+
+        // Assert
+        assertThat(spring.id()).isEqualTo(2L);
+        assertThat(spring.version()).isEqualTo(fall.version() + 1);
+    }
+
+    @Test
+    void testNoActiveSemester() {
+        when(semesterRepo.findAll()).thenReturn(List.of(semester(1L, false, null, null)));
+
+        assertThat(context.find()).isEmpty();
+        assertThatThrownBy(() -> context.require())
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("No active semester found");
+    }
+
+    private static Semester semester(long id, boolean active, LocalDate start, LocalDate end) {
+        Semester s = new Semester();
+        s.setId(id);
+        s.setName("S" + id);
+        s.setActive(active);
+        s.setStartDate(start);
+        s.setEndDate(end);
+        return s;
+    }
+}
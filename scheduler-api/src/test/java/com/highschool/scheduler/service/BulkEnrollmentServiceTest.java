@@ -0,0 +1,133 @@
+package com.highschool.scheduler.service;
+
+import com.highschool.scheduler.dto.BulkEnrollmentReport;
+import com.highschool.scheduler.dto.BulkEnrollmentResult;
+import com.highschool.scheduler.dto.EnrolledSlot;
+import com.highschool.scheduler.dto.EnrollmentRequestDTO;
+import com.highschool.scheduler.dto.SectionDateCount;
+import com.highschool.scheduler.model.Classroom;
+import com.highschool.scheduler.model.Course;
+import com.highschool.scheduler.model.CourseSection;
+import com.highschool.scheduler.model.Semester;
+import com.highschool.scheduler.model.Student;
+import com.highschool.scheduler.repository.CourseSectionRepository;
+import com.highschool.scheduler.repository.StudentRepository;
+import com.highschool.scheduler.repository.StudentSectionEnrollmentRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class BulkEnrollmentServiceTest {
+
+    private static final LocalDate MONDAY = LocalDate.of(2024, 9, 2);
+
+    private StudentSectionEnrollmentRepository enrollRepo;
+    private JdbcTemplate jdbcTemplate;
+    private BulkEnrollmentService bulkEnrollmentService;
+
+    @BeforeEach
+    void setup() {
+        StudentRepository studentRepo = Mockito.mock(StudentRepository.class);
+        CourseSectionRepository sectionRepo = Mockito.mock(CourseSectionRepository.class);
+        enrollRepo = Mockito.mock(StudentSectionEnrollmentRepository.class);
+        jdbcTemplate = Mockito.mock(JdbcTemplate.class);
+
+        Semester semester = new Semester();
+        semester.setId(1L);
+        CourseSection algebra = section(10L, "Algebra I", semester, 2, LocalTime.of(9, 0), LocalTime.of(10, 0));
+        CourseSection biology = section(11L, "Biology", semester, 30, LocalTime.of(9, 0), LocalTime.of(11, 0));
+        CourseSection art = section(12L, "Visual Arts", semester, 30, LocalTime.of(13, 0), LocalTime.of(14, 0));
+
+        when(sectionRepo.findAllById(anyIterable())).thenReturn(List.of(algebra, biology, art));
+        when(studentRepo.findAllById(anyIterable())).thenReturn(LongStream.rangeClosed(1, 4).mapToObj(id -> {
+            Student s = new Student();
+            s.setId(id);
+            return s;
+        }).toList());
+        // Student 4 already has five courses this semester
+        when(enrollRepo.findEnrolledSlotsByStudentIds(anyCollection())).thenReturn(LongStream.range(0, 5)
+                .mapToObj(i -> new EnrolledSlot(4L, 100 + i, 1L, MONDAY, DayOfWeek.FRIDAY,
+                        LocalTime.of(9, 0), LocalTime.of(10, 0), "Other"))
+                .toList());
+        // One of Algebra's two seats on Monday is already taken
+        when(enrollRepo.countBySectionAndDateForSections(anyCollection()))
+                .thenReturn(List.of(new SectionDateCount(10L, MONDAY, 2, 1)));
+
+        bulkEnrollmentService = new BulkEnrollmentService(studentRepo, sectionRepo, enrollRepo,
+                new SeatInventory(enrollRepo, Mockito.mock(ActiveSemesterContext.class)), new StudentTimetableCache(enrollRepo, 100),
+                new StudentProgressService(studentRepo), jdbcTemplate);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testRowsAreValidatedInMemoryAndAcceptedRowsBatchInserted() {
+        // Arrange
+        List<EnrollmentRequestDTO> rows = List.of(
+                new EnrollmentRequestDTO(1L, 10L, MONDAY),   // accepted, takes Algebra's last seat
+                new EnrollmentRequestDTO(2L, 10L, MONDAY),   // Algebra full
+                new EnrollmentRequestDTO(1L, 10L, MONDAY),   // duplicate of row 0
+                new EnrollmentRequestDTO(1L, 11L, MONDAY),   // overlaps Algebra 09:00-10:00
+                new EnrollmentRequestDTO(1L, 12L, MONDAY),   // accepted
+                new EnrollmentRequestDTO(4L, 12L, MONDAY),   // course limit
+                new EnrollmentRequestDTO(3L, 99L, MONDAY),   // unknown section
+                new EnrollmentRequestDTO(3L, 11L, null));    // missing date
+
+        // Act
+        BulkEnrollmentReport report = bulkEnrollmentService.enrollAll(rows);
+
+        // Assert
+        assertThat(report.accepted()).isEqualTo(2);
+        assertThat(report.rejected()).isEqualTo(6);
+        assertThat(report.results()).extracting(BulkEnrollmentResult::accepted)
+                .containsExactly(true, false, false, false, true, false, false, false);
+        assertThat(report.results().get(1).error()).startsWith(EnrollmentService.ROOM_IS_FULL_FOR_SECTION_DATE);
+        assertThat(report.results().get(2).error()).isEqualTo(EnrollmentService.ALREADY_ENROLLED_IN_THIS_SECTION);
+        assertThat(report.results().get(3).error()).startsWith("Time conflict with Algebra I");
+        assertThat(report.results().get(5).error()).startsWith("Maximum of 5 courses");
+        assertThat(report.results().get(6).error()).isEqualTo(EnrollmentService.COURSE_SECTION_NOT_FOUND);
+        assertThat(report.results().get(7).error()).isEqualTo(BulkEnrollmentService.MISSING_FIELDS);
+
+        ArgumentCaptor<List<Object[]>> inserted = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(anyString(), inserted.capture(), anyInt(), any(ParameterizedPreparedStatementSetter.class));
+        assertThat(inserted.getValue()).containsExactly(
+                new Object[]{1L, 10L, 1L, "2024-09-02"},
+                new Object[]{1L, 12L, 1L, "2024-09-02"});
+    }
+
+    private static CourseSection section(long id, String courseName, Semester semester, int capacity,
+                                         LocalTime start, LocalTime end) {
+        Course course = new Course();
+        course.setId(id);
+        course.setName(courseName);
+        Classroom room = new Classroom();
+        room.setId(id);
+        room.setCapacity(capacity);
+        CourseSection s = new CourseSection();
+        s.setId(id);
+        s.setCourse(course);
+        s.setClassroom(room);
+        s.setSemester(semester);
+        s.setDayOfWeek(DayOfWeek.MONDAY);
+        s.setStartTime(start);
+        s.setEndTime(end);
+        return s;
+    }
+}
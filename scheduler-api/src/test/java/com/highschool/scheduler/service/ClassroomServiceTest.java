@@ -2,6 +2,10 @@ package com.highschool.scheduler.service;
 
 import com.highschool.scheduler.model.Classroom;
 import com.highschool.scheduler.repository.ClassroomRepository;
+import com.highschool.scheduler.repository.CourseRepository;
+import com.highschool.scheduler.repository.RoomTypeRepository;
+import com.highschool.scheduler.repository.SemesterRepository;
+import com.highschool.scheduler.repository.TeacherRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
@@ -19,7 +23,8 @@ class ClassroomServiceTest {
     @BeforeEach
     void setup() {
         classroomRepo = Mockito.mock(ClassroomRepository.class);
-        classroomService = new ClassroomService(classroomRepo);
+        classroomService = new ClassroomService(new ReferenceDataCache(Mockito.mock(CourseRepository.class),
+                Mockito.mock(TeacherRepository.class), classroomRepo, Mockito.mock(RoomTypeRepository.class), Mockito.mock(SemesterRepository.class)));
     }
 
     @Test
@@ -1,7 +1,11 @@
 package com.highschool.scheduler.service;
 
 import com.highschool.scheduler.model.Course;
+import com.highschool.scheduler.repository.ClassroomRepository;
 import com.highschool.scheduler.repository.CourseRepository;
+import com.highschool.scheduler.repository.RoomTypeRepository;
+import com.highschool.scheduler.repository.SemesterRepository;
+import com.highschool.scheduler.repository.TeacherRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
@@ -19,7 +23,8 @@ class CourseServiceTest {
     @BeforeEach
     void setup() {
         courseRepo = Mockito.mock(CourseRepository.class);
-        courseService = new CourseService(courseRepo);
+        courseService = new CourseService(new ReferenceDataCache(courseRepo, Mockito.mock(TeacherRepository.class),
+                Mockito.mock(ClassroomRepository.class), Mockito.mock(RoomTypeRepository.class), Mockito.mock(SemesterRepository.class)));
     }
 
     @Test
@@ -0,0 +1,179 @@
+package com.highschool.scheduler.service;
+
+import com.highschool.scheduler.dto.EligibleSectionDTO;
+import com.highschool.scheduler.dto.EligibleSectionRow;
+import com.highschool.scheduler.dto.EnrolledSectionRow;
+import com.highschool.scheduler.dto.EnrollmentDTO;
+import com.highschool.scheduler.dto.SectionDateCount;
+import com.highschool.scheduler.model.Classroom;
+import com.highschool.scheduler.model.CourseSection;
+import com.highschool.scheduler.model.Semester;
+import com.highschool.scheduler.model.Student;
+import com.highschool.scheduler.repository.CourseSectionRepository;
+import com.highschool.scheduler.repository.StudentCourseHistoryRepository;
+import com.highschool.scheduler.repository.StudentRepository;
+import com.highschool.scheduler.repository.StudentSectionEnrollmentRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class EnrollmentServiceTest {
+
+    private StudentRepository studentRepo;
+    private CourseSectionRepository sectionRepo;
+    private ActiveSemesterContext activeSemester;
+    private StudentSectionEnrollmentRepository enrollRepo;
+    private StudentCourseHistoryRepository historyRepo;
+    private EnrollmentService enrollmentService;
+
+    @BeforeEach
+    void setup() {
+        studentRepo = Mockito.mock(StudentRepository.class);
+        sectionRepo = Mockito.mock(CourseSectionRepository.class);
+        activeSemester = Mockito.mock(ActiveSemesterContext.class);
+        enrollRepo = Mockito.mock(StudentSectionEnrollmentRepository.class);
+        historyRepo = Mockito.mock(StudentCourseHistoryRepository.class);
+        enrollmentService = new EnrollmentService(studentRepo, sectionRepo, enrollRepo, historyRepo,
+                new SeatInventory(enrollRepo, activeSemester), new StudentTimetableCache(enrollRepo, 100),
+                Mockito.mock(ReferenceDataCache.class), activeSemester, new StudentProgressService(studentRepo));
+    }
+
+    @Test
+    void testEligibleSectionsComeFromSingleQuerySortedByDayAndTime() {
+        // Arrange
+        Student student = new Student();
+        student.setId(7L);
+        student.setGradeLevel(10);
+        Semester semester = new Semester();
+        semester.setId(3L);
+        when(studentRepo.findById(7L)).thenReturn(Optional.of(student));
+        when(activeSemester.find()).thenReturn(Optional.of(ActiveSemesterContext.ActiveSemester.of(1, semester)));
+        when(sectionRepo.findEligibleSections(7L, 3L, 10)).thenReturn(List.of(
+                new EligibleSectionRow(11L, 1L, "Biology", "Jane", "Doe", "Lab-1",
+                        DayOfWeek.TUESDAY, LocalTime.of(9, 0), LocalTime.of(10, 0), "core"),
+                new EligibleSectionRow(12L, 2L, "Visual Arts", "Kim", "Roe", "Studio-1",
+                        DayOfWeek.MONDAY, LocalTime.of(13, 0), LocalTime.of(15, 0), "elective"),
+                new EligibleSectionRow(13L, 3L, "Algebra I", "John", "Smith", "Room-101",
+                        DayOfWeek.MONDAY, LocalTime.of(9, 0), LocalTime.of(10, 0), "core")));
+        when(enrollRepo.countBySectionAndDateForSections(anyCollection())).thenReturn(List.of(
+                new SectionDateCount(11L, LocalDate.of(2024, 9, 3), 10, 4),
+                new SectionDateCount(12L, null, 10, 0),
+                new SectionDateCount(13L, LocalDate.of(2024, 9, 2), 10, 5),
+                new SectionDateCount(13L, LocalDate.of(2024, 9, 9), 10, 4)));
+
+        // Act
+        List<EligibleSectionDTO> result = enrollmentService.getEligibleSections(7L);
+
+        // Assert
+        assertThat(result).extracting(EligibleSectionDTO::id).containsExactly(13L, 12L, 11L);
+        EligibleSectionDTO first = result.get(0);
+        assertThat(first.teacherName()).isEqualTo("John Smith");
+        assertThat(first.dayOfWeek()).isEqualTo("MONDAY");
+        assertThat(first.startTime()).isEqualTo("09:00");
+        assertThat(first.endTime()).isEqualTo("10:00");
+        assertThat(first.enrolled()).isEqualTo(9);
+        assertThat(first.capacity()).isEqualTo(10);
+        assertThat(result.get(1).enrolled()).isZero();
+        verify(enrollRepo, Mockito.times(1)).countBySectionAndDateForSections(anyCollection());
+        verify(sectionRepo, never()).findAll();
+        verify(historyRepo, never()).findAll();
+        verify(enrollRepo, never()).findAll();
+    }
+
+    @Test
+    void testEligibleSectionsForUnknownStudent() {
+        when(studentRepo.findById(99L)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> enrollmentService.getEligibleSections(99L))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage(EnrollmentService.STUDENT_NOT_FOUND);
+    }
+
+    @Test
+    void testEligibleDatesSkipFullDatesUsingOneGroupedCount() {
+        // Arrange
+        CourseSection section = section(5L, DayOfWeek.WEDNESDAY, 2);
+        when(sectionRepo.findById(5L)).thenReturn(Optional.of(section));
+        when(enrollRepo.countBySectionAndDateForSections(List.of(5L))).thenReturn(List.of(
+                new SectionDateCount(5L, LocalDate.of(2024, 9, 11), 2, 2),
+                new SectionDateCount(5L, LocalDate.of(2024, 9, 18), 2, 1)));
+
+        // Act
+        List<LocalDate> dates = enrollmentService.getEligibleDatesForSection(5L);
+
+        // Assert
+        assertThat(dates).containsExactly(
+                LocalDate.of(2024, 9, 4), LocalDate.of(2024, 9, 18), LocalDate.of(2024, 9, 25));
+    }
+
+    @Test
+    void testEligibleDatesForSeveralSectionsInRequestOrder() {
+        // Arrange
+        CourseSection monday = section(6L, DayOfWeek.MONDAY, 1);
+        CourseSection friday = section(7L, DayOfWeek.FRIDAY, 1);
+        when(sectionRepo.findAllById(List.of(7L, 99L, 6L))).thenReturn(List.of(monday, friday));
+        when(enrollRepo.countBySectionAndDateForSections(anyCollection())).thenReturn(List.of(
+                new SectionDateCount(6L, LocalDate.of(2024, 9, 2), 1, 1)));
+
+        // Act
+        Map<Long, List<LocalDate>> dates = enrollmentService.getEligibleDatesForSections(List.of(7L, 99L, 6L));
+
+        // Assert
+        assertThat(dates).containsOnlyKeys(7L, 6L);
+        assertThat(dates.keySet()).containsExactly(7L, 6L);
+        assertThat(dates.get(6L)).containsExactly(
+                LocalDate.of(2024, 9, 9), LocalDate.of(2024, 9, 16), LocalDate.of(2024, 9, 23));
+        assertThat(dates.get(7L)).hasSize(4).first().isEqualTo(LocalDate.of(2024, 9, 6));
+    }
+
+    @Test
+    void testCurrentEnrollmentsAreBuiltFromRowsSortedByDayAndTime() {
+        // Arrange
+        Semester semester = new Semester();
+        semester.setId(3L);
+        when(activeSemester.require()).thenReturn(ActiveSemesterContext.ActiveSemester.of(1, semester));
+        when(enrollRepo.findEnrolledSections(7L, 3L)).thenReturn(List.of(
+                new EnrolledSectionRow(11L, DayOfWeek.TUESDAY, LocalTime.of(9, 0), LocalTime.of(10, 0),
+                        "BIO101", "Biology", "Jane", "Doe", "Lab-1", LocalDate.of(2024, 9, 3)),
+                new EnrolledSectionRow(13L, DayOfWeek.MONDAY, LocalTime.of(9, 0), LocalTime.of(10, 0),
+                        "MAT101", "Algebra I", "John", "Smith", "Room-101", LocalDate.of(2024, 9, 2))));
+
+        // Act
+        List<EnrollmentDTO> result = enrollmentService.getCurrentEnrollments(7L);
+
+        // Assert
+        assertThat(result).containsExactly(
+                new EnrollmentDTO("MONDAY", "09:00", "10:00", "Algebra I", "John Smith", "Room-101", "2024-09-02"),
+                new EnrollmentDTO("TUESDAY", "09:00", "10:00", "Biology", "Jane Doe", "Lab-1", "2024-09-03"));
+    }
+
+    private static CourseSection section(long id, DayOfWeek day, int capacity) {
+        Semester semester = new Semester();
+        semester.setId(1L);
+        semester.setStartDate(LocalDate.of(2024, 9, 2));
+        semester.setEndDate(LocalDate.of(2024, 9, 27));
+        Classroom room = new Classroom();
+        room.setCapacity(capacity);
+        CourseSection s = new CourseSection();
+        s.setId(id);
+        s.setSemester(semester);
+        s.setClassroom(room);
+        s.setDayOfWeek(day);
+        return s;
+    }
+}
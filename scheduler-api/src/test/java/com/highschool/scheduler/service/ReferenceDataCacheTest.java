@@ -0,0 +1,172 @@
+package com.highschool.scheduler.service;
+
+import com.highschool.scheduler.model.Classroom;
+import com.highschool.scheduler.model.Course;
+import com.highschool.scheduler.model.CourseSection;
+import com.highschool.scheduler.model.RoomType;
+import com.highschool.scheduler.model.Semester;
+import com.highschool.scheduler.model.Specialization;
+import com.highschool.scheduler.model.Teacher;
+import com.highschool.scheduler.repository.ClassroomRepository;
+import com.highschool.scheduler.repository.CourseRepository;
+import com.highschool.scheduler.repository.RoomTypeRepository;
+import com.highschool.scheduler.repository.SemesterRepository;
+import com.highschool.scheduler.repository.TeacherRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ReferenceDataCacheTest {
+
+    private CourseRepository courseRepo;
+    private TeacherRepository teacherRepo;
+    private ClassroomRepository classroomRepo;
+    private ReferenceDataCache cache;
+
+    @BeforeEach
+    void setup() {
+        courseRepo = Mockito.mock(CourseRepository.class);
+        teacherRepo = Mockito.mock(TeacherRepository.class);
+        classroomRepo = Mockito.mock(ClassroomRepository.class);
+        RoomTypeRepository roomTypeRepo = Mockito.mock(RoomTypeRepository.class);
+        SemesterRepository semesterRepo = Mockito.mock(SemesterRepository.class);
+        cache = new ReferenceDataCache(courseRepo, teacherRepo, classroomRepo, roomTypeRepo, semesterRepo);
+
+        RoomType lab = new RoomType();
+        lab.setId(2L);
+        Specialization science = new Specialization();
+        science.setId(3L);
+        science.setRoomType(lab);
+        Course biology = course(10L, 1, science);
+        Course chemistry = course(11L, 2, science);
+        chemistry.setPrerequisite(biology);
+        Teacher teacher = new Teacher();
+        teacher.setId(20L);
+        teacher.setSpecialization(science);
+        Classroom room = new Classroom();
+        room.setId(30L);
+        room.setRoomType(lab);
+        Semester fall = new Semester();
+        fall.setId(1L);
+        Semester spring = new Semester();
+        spring.setId(2L);
+        spring.setActive(true);
+
+        when(courseRepo.findAll()).thenReturn(List.of(biology, chemistry));
+        when(teacherRepo.findAll()).thenReturn(List.of(teacher));
+        when(classroomRepo.findAll()).thenReturn(List.of(room));
+        when(roomTypeRepo.findAll()).thenReturn(List.of());
+        when(semesterRepo.findAll()).thenReturn(List.of(fall, spring));
+    }
+
+    @Test
+    void testSnapshotIsLoadedOnceAndIndexedById() {
+        // Act
+        ReferenceDataCache.Snapshot first = cache.snapshot();
+        ReferenceDataCache.Snapshot second = cache.snapshot();
+
+        // Assert
+        assertThat(second).isSameAs(first);
+        assertThat(first.courses()).containsOnlyKeys(10L, 11L);
+        assertThat(first.courses().get(11L).getPrerequisite()).isSameAs(first.courses().get(10L));
+        assertThat(first.coursesForSemesterOrder(2)).extracting(Course::getId).containsExactly(11L);
+        assertThat(first.specializations()).containsOnlyKeys(3L);
+        assertThat(first.roomTypes()).containsOnlyKeys(2L);
+        assertThat(first.activeSemester()).map(Semester::getId).contains(2L);
+        verify(courseRepo, times(1)).findAll();
+        verify(teacherRepo, times(1)).findAll();
+    }
+
+    @Test
+    void testSnapshotCannotBeModified() {
+        ReferenceDataCache.Snapshot snapshot = cache.snapshot();
+
+        assertThatThrownBy(() -> snapshot.courses().remove(10L)).isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> snapshot.teacherList().add(new Teacher())).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    void testReplacedScheduleAndReloadRefreshTheSnapshot() {
+        // Arrange
+        ReferenceDataCache.Snapshot before = cache.snapshot();
+        Classroom added = new Classroom();
+        added.setId(31L);
+        when(classroomRepo.findAll()).thenReturn(List.of(before.classroomList().get(0), added));
+
+        // Act
+        ReferenceDataCache.Snapshot stillCached = cache.snapshot();
+        cache.onScheduleReplaced(new ScheduleReplacedEvent(2L));
+        ReferenceDataCache.Snapshot afterEvent = cache.snapshot();
+        ReferenceDataCache.Snapshot reloaded = cache.reload();
+
+        // Assert
+        assertThat(stillCached.classrooms()).containsOnlyKeys(30L);
+        assertThat(afterEvent.classrooms()).containsOnlyKeys(30L, 31L);
+        assertThat(reloaded).isNotSameAs(afterEvent);
+        verify(classroomRepo, times(3)).findAll();
+    }
+
+    @Test
+    void testReferencesAreLinkedToTheLoadedInstances() {
+        // Arrange: lazy references arrive as separate instances that only carry the id
+        Course chemistry = cache.snapshot().courses().get(11L);
+        chemistry.setPrerequisite(course(10L, 1, null));
+        Specialization science = new Specialization();
+        science.setId(3L);
+        chemistry.setSpecialization(science);
+        when(courseRepo.findAll()).thenReturn(List.of(cache.snapshot().courses().get(10L), chemistry));
+
+        // Act
+        ReferenceDataCache.Snapshot snapshot = cache.reload();
+
+        // Assert
+        Course biology = snapshot.courses().get(10L);
+        assertThat(chemistry.getPrerequisite()).isSameAs(biology);
+        assertThat(chemistry.getSpecialization()).isSameAs(biology.getSpecialization());
+        assertThat(snapshot.teacherList().get(0).getSpecialization()).isSameAs(snapshot.specializations().get(3L));
+    }
+
+    @Test
+    void testSectionIsLinkedToCachedRows() {
+        // Arrange
+        ReferenceDataCache.Snapshot snapshot = cache.snapshot();
+        CourseSection section = new CourseSection();
+        section.setCourse(course(11L, 2, null));
+        Teacher teacher = new Teacher();
+        teacher.setId(20L);
+        section.setTeacher(teacher);
+        Classroom unknownRoom = new Classroom();
+        unknownRoom.setId(99L);
+        section.setClassroom(unknownRoom);
+        Semester spring = new Semester();
+        spring.setId(2L);
+        section.setSemester(spring);
+
+        // Act
+        CourseSection linked = snapshot.link(section);
+
+        // Assert
+        assertThat(linked).isSameAs(section);
+        assertThat(section.getCourse()).isSameAs(snapshot.courses().get(11L));
+        assertThat(section.getCourse().getPrerequisite()).isSameAs(snapshot.courses().get(10L));
+        assertThat(section.getTeacher()).isSameAs(snapshot.teachers().get(20L));
+        assertThat(section.getClassroom()).isSameAs(unknownRoom);
+        assertThat(section.getSemester()).isSameAs(snapshot.semesters().get(2L));
+    }
+
+    private static Course course(long id, int semesterOrder, Specialization specialization) {
+        Course c = new Course();
+        c.setId(id);
+        c.setSemesterOrder(semesterOrder);
+        c.setSpecialization(specialization);
+        return c;
+    }
+}
@@ -0,0 +1,184 @@
+package com.highschool.scheduler.service;
+
+import com.highschool.scheduler.dto.GeneratedSchedule;
+import com.highschool.scheduler.dto.GenerationOptions;
+import com.highschool.scheduler.model.Classroom;
+import com.highschool.scheduler.model.Course;
+import com.highschool.scheduler.model.RoomType;
+import com.highschool.scheduler.model.Semester;
+import com.highschool.scheduler.model.Specialization;
+import com.highschool.scheduler.model.Teacher;
+import com.highschool.scheduler.repository.ClassroomRepository;
+import com.highschool.scheduler.repository.CourseRepository;
+import com.highschool.scheduler.repository.CourseSectionRepository;
+import com.highschool.scheduler.repository.RoomTypeRepository;
+import com.highschool.scheduler.repository.SemesterRepository;
+import com.highschool.scheduler.repository.StudentCourseHistoryRepository;
+import com.highschool.scheduler.repository.StudentRepository;
+import com.highschool.scheduler.repository.StudentSectionEnrollmentRepository;
+import com.highschool.scheduler.repository.TeacherRepository;
+import com.highschool.scheduler.service.util.GenerationProgress;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ScheduleGeneratorServiceTest {
+
+    private ScheduleGeneratorService service;
+    private CourseSectionRepository sectionRepo;
+    private ApplicationEventPublisher eventPublisher;
+
+    @BeforeEach
+    void setup() {
+        SemesterRepository semesterRepo = Mockito.mock(SemesterRepository.class);
+        CourseRepository courseRepo = Mockito.mock(CourseRepository.class);
+        TeacherRepository teacherRepo = Mockito.mock(TeacherRepository.class);
+        ClassroomRepository classroomRepo = Mockito.mock(ClassroomRepository.class);
+        sectionRepo = Mockito.mock(CourseSectionRepository.class);
+        eventPublisher = Mockito.mock(ApplicationEventPublisher.class);
+        StudentRepository studentRepo = Mockito.mock(StudentRepository.class);
+        StudentCourseHistoryRepository historyRepo = Mockito.mock(StudentCourseHistoryRepository.class);
+
+        Semester semester = new Semester();
+        semester.setId(1L);
+        semester.setOrderInYear(1);
+        semester.setActive(true);
+        semester.setStartDate(LocalDate.of(2024, 9, 2));
+        semester.setEndDate(LocalDate.of(2024, 12, 20));
+
+        List<Course> courses = new ArrayList<>();
+        List<Teacher> teachers = new ArrayList<>();
+        List<Classroom> rooms = new ArrayList<>();
+        for (long type = 1; type <= 2; type++) {
+            RoomType roomType = new RoomType();
+            roomType.setId(type);
+            Specialization spec = new Specialization();
+            spec.setId(type);
+            spec.setRoomType(roomType);
+            for (long i = 0; i < 3; i++) {
+                long id = type * 10 + i;
+                Course course = new Course();
+                course.setId(id);
+                course.setCode("C" + id);
+                course.setName("Course " + id);
+                course.setHoursPerWeek(4);
+                course.setSemesterOrder(1);
+                course.setSpecialization(spec);
+                courses.add(course);
+
+                Teacher teacher = new Teacher();
+                teacher.setId(id);
+                teacher.setFirstName("T");
+                teacher.setLastName(Long.toString(id));
+                teacher.setSpecialization(spec);
+                teachers.add(teacher);
+
+                Classroom room = new Classroom();
+                room.setId(id);
+                room.setName("R" + id);
+                room.setRoomType(roomType);
+                rooms.add(room);
+            }
+        }
+
+        when(semesterRepo.findAll()).thenReturn(List.of(semester));
+        when(courseRepo.findAll()).thenReturn(courses);
+        when(teacherRepo.findAll()).thenReturn(teachers);
+        when(classroomRepo.findAll()).thenReturn(rooms);
+        when(studentRepo.findAll()).thenReturn(List.of());
+        when(historyRepo.findAll()).thenReturn(List.of());
+        when(sectionRepo.insertAll(anyList())).thenAnswer(inv -> inv.getArgument(0));
+
+        ReferenceDataCache referenceData = new ReferenceDataCache(courseRepo, teacherRepo, classroomRepo,
+                Mockito.mock(RoomTypeRepository.class), semesterRepo);
+        service = new ScheduleGeneratorService(referenceData, new ActiveSemesterContext(referenceData),
+                sectionRepo, studentRepo, historyRepo, Mockito.mock(StudentSectionEnrollmentRepository.class),
+                new TransactionTemplate(Mockito.mock(PlatformTransactionManager.class)),
+                eventPublisher);
+    }
+
+    @Test
+    void testSameSeedReproducesSchedule() {
+        // Arrange
+        GenerationOptions options = new GenerationOptions(false, 1, Duration.ZERO, 99L);
+
+        // Act
+        GeneratedSchedule first = service.generateForActiveSemester(options);
+        GeneratedSchedule second = service.generateForActiveSemester(options);
+
+        // Assert
+        assertThat(first.seed()).isEqualTo(99L);
+        assertThat(first.events()).isNotEmpty().isEqualTo(second.events());
+        verify(eventPublisher, Mockito.times(2)).publishEvent(new ScheduleReplacedEvent(1L));
+    }
+
+    @Test
+    void testSameSeedReproducesParallelAndBestOfSchedules() {
+        GenerationOptions parallel = new GenerationOptions(true, 1, Duration.ZERO, 5L);
+        GenerationOptions bestOf = new GenerationOptions(true, 4, Duration.ZERO, 5L);
+
+        assertThat(service.generateForActiveSemester(parallel).events())
+                .isEqualTo(service.generateForActiveSemester(parallel).events());
+        assertThat(service.generateForActiveSemester(bestOf).events())
+                .isEqualTo(service.generateForActiveSemester(bestOf).events());
+    }
+
+    @Test
+    void testFreshSeedIsReportedAndReplays() {
+        GeneratedSchedule generated = service.generateForActiveSemester(GenerationOptions.DEFAULT);
+
+        GeneratedSchedule replayed = service.generateForActiveSemester(
+                new GenerationOptions(false, 1, Duration.ZERO, generated.seed()));
+
+        assertThat(replayed.seed()).isEqualTo(generated.seed());
+        assertThat(replayed.events()).isEqualTo(generated.events());
+    }
+
+    @Test
+    void testProgressIsReportedPerCourse() {
+        // Arrange
+        GenerationProgress progress = new GenerationProgress();
+
+        // Act
+        GeneratedSchedule generated = service.generateForActiveSemester(
+                new GenerationOptions(false, 2, Duration.ZERO, 3L), progress);
+
+        // Assert
+        assertThat(progress.phase()).isEqualTo(GenerationProgress.Phase.DONE);
+        assertThat(progress.totalCourses()).isEqualTo(12);
+        assertThat(progress.coursesPlaced()).isEqualTo(12);
+        assertThat(progress.unplacedHours()).isZero();
+        assertThat(progress.score()).isPositive();
+        assertThat(generated.events()).isNotEmpty();
+    }
+
+    @Test
+    void testCancelledRunSavesNothing() {
+        // Arrange
+        GenerationProgress progress = new GenerationProgress();
+        progress.requestCancel();
+
+        // Act & Assert
+        assertThatThrownBy(() -> service.generateForActiveSemester(GenerationOptions.DEFAULT, progress))
+                .isInstanceOf(CancellationException.class);
+        verify(sectionRepo, never()).deleteAllBySemesterId(Mockito.any());
+        verify(sectionRepo, never()).insertAll(anyList());
+        verify(eventPublisher, never()).publishEvent(Mockito.any(Object.class));
+    }
+}
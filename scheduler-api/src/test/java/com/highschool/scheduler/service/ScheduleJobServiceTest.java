@@ -0,0 +1,124 @@
+package com.highschool.scheduler.service;
+
+import com.highschool.scheduler.dto.GeneratedSchedule;
+import com.highschool.scheduler.dto.GenerationOptions;
+import com.highschool.scheduler.dto.ScheduleJobDTO;
+import com.highschool.scheduler.service.util.GenerationProgress;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+class ScheduleJobServiceTest {
+
+    private ScheduleGeneratorService generator;
+    private ScheduleJobService service;
+
+    @BeforeEach
+    void setup() {
+        generator = Mockito.mock(ScheduleGeneratorService.class);
+        service = new ScheduleJobService(generator, 1, 50);
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
+    @Test
+    void testJobRunsInBackgroundAndReportsResult() throws Exception {
+        // Arrange
+        when(generator.generateForActiveSemester(eq(GenerationOptions.DEFAULT), any(GenerationProgress.class)))
+                .thenReturn(new GeneratedSchedule(11L, List.of()));
+
+        // Act
+        ScheduleJobDTO submitted = service.submit(GenerationOptions.DEFAULT);
+        ScheduleJobDTO finished = awaitFinished(submitted.id());
+
+        // Assert
+        assertThat(finished.status()).isEqualTo("SUCCEEDED");
+        assertThat(finished.seed()).isEqualTo(11L);
+        assertThat(finished.sectionCount()).isZero();
+    }
+
+    @Test
+    void testRunningJobCanBeCancelled() throws Exception {
+        // Arrange: the generator runs until it sees the cancel request
+        CountDownLatch started = new CountDownLatch(1);
+        when(generator.generateForActiveSemester(eq(GenerationOptions.DEFAULT), any(GenerationProgress.class)))
+                .thenAnswer(inv -> {
+                    GenerationProgress progress = inv.getArgument(1);
+                    started.countDown();
+                    while (!progress.isCancelRequested()) Thread.sleep(5);
+                    progress.checkCancelled();
+                    return null;
+                });
+        ScheduleJobDTO submitted = service.submit(GenerationOptions.DEFAULT);
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // Act
+        service.cancel(submitted.id());
+
+        // Assert
+        assertThat(awaitFinished(submitted.id()).status()).isEqualTo("CANCELLED");
+    }
+
+    @Test
+    void testFailedJobReportsError() throws Exception {
+        when(generator.generateForActiveSemester(eq(GenerationOptions.DEFAULT), any(GenerationProgress.class)))
+                .thenThrow(new IllegalStateException("No active semester found"));
+
+        ScheduleJobDTO finished = awaitFinished(service.submit(GenerationOptions.DEFAULT).id());
+
+        assertThat(finished.status()).isEqualTo("FAILED");
+        assertThat(finished.error()).isEqualTo("No active semester found");
+    }
+
+    @Test
+    void testRejectsJobsBeyondQueueCapacity() throws Exception {
+        // Arrange: one job running, one queued
+        CountDownLatch release = new CountDownLatch(1);
+        when(generator.generateForActiveSemester(eq(GenerationOptions.DEFAULT), any(GenerationProgress.class)))
+                .thenAnswer(inv -> {
+                    release.await(5, TimeUnit.SECONDS);
+                    return new GeneratedSchedule(1L, List.of());
+                });
+        service.submit(GenerationOptions.DEFAULT);
+        ScheduleJobDTO queued = service.submit(GenerationOptions.DEFAULT);
+        assertThat(queued.status()).isEqualTo("QUEUED");
+
+        // Act & Assert
+        assertThatThrownBy(() -> service.submit(GenerationOptions.DEFAULT))
+                .isInstanceOf(JobQueueFullException.class);
+
+        assertThat(service.cancel(queued.id()).status()).isEqualTo("CANCELLED");
+        release.countDown();
+    }
+
+    @Test
+    void testUnknownJobIsNotFound() {
+        assertThatThrownBy(() -> service.status("missing"))
+                .isInstanceOf(NoSuchElementException.class);
+    }
+
+    private ScheduleJobDTO awaitFinished(String id) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        ScheduleJobDTO job = service.status(id);
+        while (List.of("QUEUED", "RUNNING").contains(job.status()) && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+            job = service.status(id);
+        }
+        return job;
+    }
+}
@@ -0,0 +1,141 @@
+package com.highschool.scheduler.service;
+
+import com.highschool.scheduler.dto.SectionDateCount;
+import com.highschool.scheduler.model.Classroom;
+import com.highschool.scheduler.model.CourseSection;
+import com.highschool.scheduler.model.Semester;
+import com.highschool.scheduler.repository.StudentSectionEnrollmentRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class SeatInventoryTest {
+
+    private static final LocalDate DATE = LocalDate.of(2024, 9, 2);
+
+    private StudentSectionEnrollmentRepository enrollRepo;
+    private ActiveSemesterContext activeSemester;
+    private SeatInventory inventory;
+    private CourseSection section;
+
+    @BeforeEach
+    void setup() {
+        enrollRepo = Mockito.mock(StudentSectionEnrollmentRepository.class);
+        activeSemester = Mockito.mock(ActiveSemesterContext.class);
+        inventory = new SeatInventory(enrollRepo, activeSemester);
+
+        Classroom room = new Classroom();
+        room.setId(1L);
+        room.setCapacity(10);
+        section = new CourseSection();
+        section.setId(5L);
+        section.setClassroom(room);
+    }
+
+    @Test
+    void testConcurrentReservationsNeverOverbook() throws Exception {
+        // Arrange
+        when(enrollRepo.countBySectionAndDateForSections(List.of(5L)))
+                .thenReturn(List.of(new SectionDateCount(5L, DATE, 10, 3)));
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        CountDownLatch start = new CountDownLatch(1);
+
+        // Act
+        List<Future<Boolean>> attempts = IntStream.range(0, 64)
+                .mapToObj(i -> pool.submit(() -> {
+                    start.await();
+                    return inventory.tryReserve(section, DATE);
+                }))
+                .toList();
+        start.countDown();
+        int reserved = 0;
+        for (Future<Boolean> attempt : attempts) {
+            if (attempt.get(10, TimeUnit.SECONDS)) reserved++;
+        }
+        pool.shutdown();
+
+        // Assert
+        assertThat(reserved).isEqualTo(7);
+        assertThat(inventory.remaining(section, DATE)).isZero();
+        assertThat(inventory.enrolled(5L)).isEqualTo(10);
+        verify(enrollRepo, times(1)).countBySectionAndDateForSections(List.of(5L));
+    }
+
+    @Test
+    void testSeatIsReturnedWhenTransactionRollsBack() {
+        when(enrollRepo.countBySectionAndDateForSections(List.of(5L)))
+                .thenReturn(List.of(new SectionDateCount(5L, DATE, 10, 9)));
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            assertThat(inventory.tryReserve(section, DATE)).isTrue();
+            assertThat(inventory.tryReserve(section, DATE)).isFalse();
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertThat(inventory.remaining(section, DATE)).isEqualTo(1);
+        assertThat(inventory.enrolled(5L)).isEqualTo(9);
+    }
+
+    @Test
+    void testPreloadReadsMissingSectionsInOneQuery() {
+        // Arrange
+        when(enrollRepo.countBySectionAndDateForSections(List.of(5L, 6L))).thenReturn(List.of(
+                new SectionDateCount(5L, DATE, 10, 4),
+                new SectionDateCount(5L, DATE.plusWeeks(1), 10, 2),
+                new SectionDateCount(6L, null, 10, 0)));
+
+        // Act
+        inventory.preload(List.of(5L, 6L, 5L));
+        inventory.preload(List.of(6L));
+
+        // Assert
+        assertThat(inventory.enrolled(5L)).isEqualTo(6);
+        assertThat(inventory.enrolled(5L, DATE.plusWeeks(1))).isEqualTo(2);
+        assertThat(inventory.enrolled(6L)).isZero();
+        assertThat(inventory.remaining(section, DATE)).isEqualTo(6);
+        verify(enrollRepo, times(1)).countBySectionAndDateForSections(Mockito.anyCollection());
+    }
+
+    @Test
+    void testWarmUpLoadsCountsAndReplacedScheduleClearsThem() {
+        // Arrange
+        Semester semester = new Semester();
+        semester.setId(1L);
+        when(activeSemester.find()).thenReturn(Optional.of(ActiveSemesterContext.ActiveSemester.of(1, semester)));
+        when(enrollRepo.countBySectionAndDateForSemester(1L))
+                .thenReturn(List.of(new SectionDateCount(5L, DATE, 10, 10)));
+        when(enrollRepo.countBySectionAndDateForSections(List.of(5L))).thenReturn(List.of(new SectionDateCount(5L, null, 10, 0)));
+
+        // Act
+        inventory.warmUp();
+        boolean beforeReplace = inventory.tryReserve(section, DATE);
+        inventory.onScheduleReplaced(new ScheduleReplacedEvent(1L));
+        boolean afterReplace = inventory.tryReserve(section, DATE);
+
+        // Assert
+        assertThat(beforeReplace).isFalse();
+        assertThat(afterReplace).isTrue();
+        assertThat(inventory.remaining(section, DATE)).isEqualTo(9);
+    }
+}
@@ -1,12 +1,16 @@
 package com.highschool.scheduler.service;
 
 import com.highschool.scheduler.model.Semester;
+import com.highschool.scheduler.repository.ClassroomRepository;
+import com.highschool.scheduler.repository.CourseRepository;
+import com.highschool.scheduler.repository.RoomTypeRepository;
 import com.highschool.scheduler.repository.SemesterRepository;
+import com.highschool.scheduler.repository.TeacherRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 
-import java.util.Optional;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.Mockito.when;
@@ -19,7 +23,8 @@ class SemesterServiceTest {
     @BeforeEach
     void setup() {
         semesterRepo = Mockito.mock(SemesterRepository.class);
-        semesterService = new SemesterService(semesterRepo);
+        semesterService = new SemesterService(new ActiveSemesterContext(new ReferenceDataCache(Mockito.mock(CourseRepository.class),
+                Mockito.mock(TeacherRepository.class), Mockito.mock(ClassroomRepository.class), Mockito.mock(RoomTypeRepository.class), semesterRepo)));
     }
 
     @Test
@@ -29,8 +34,12 @@ class SemesterServiceTest {
         sem.setId(10L);
         sem.setName("Fall");
         sem.setYear(2024);
+        sem.setActive(true);
+        Semester past = new Semester();
+        past.setId(9L);
+        past.setName("Spring");
 
-        when(semesterRepo.findByIsActiveTrue()).thenReturn(Optional.of(sem));
+        when(semesterRepo.findAll()).thenReturn(List.of(past, sem));
 
         // Act
         Semester result = semesterService.getActiveSemester();
@@ -42,7 +51,7 @@ class SemesterServiceTest {
 
     @Test
     void testNoActiveSemesterThrowsException() {
-        when(semesterRepo.findByIsActiveTrue()).thenReturn(Optional.empty());
+        when(semesterRepo.findAll()).thenReturn(List.of());
 
         assertThatThrownBy(() -> semesterService.getActiveSemester())
                 .isInstanceOf(IllegalStateException.class)
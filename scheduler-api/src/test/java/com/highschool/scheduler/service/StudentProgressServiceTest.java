@@ -0,0 +1,131 @@
+package com.highschool.scheduler.service;
+
+import com.highschool.scheduler.dto.StudentProgressDTO;
+import com.highschool.scheduler.dto.StudentProgressRow;
+import com.highschool.scheduler.repository.StudentRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class StudentProgressServiceTest {
+
+    private StudentRepository studentRepo;
+    private StudentProgressService progressService;
+
+    @BeforeEach
+    void setup() {
+        studentRepo = Mockito.mock(StudentRepository.class);
+        progressService = new StudentProgressService(studentRepo);
+    }
+
+    @Test
+    void testSummaryIsComputedFromOneQueryAndCached() {
+        // Arrange: 3 of 4 graded courses passed for 7.5 credits, 4 enrollments
+        when(studentRepo.findProgressRow(1L)).thenReturn(Optional.of(row(1L, 7.5, 3, 4, 4)));
+
+        // Act
+        StudentProgressDTO first = progressService.get(1L);
+        StudentProgressDTO second = progressService.get(1L);
+
+        // Assert
+        assertThat(second).isSameAs(first);
+        assertThat(first.studentName()).isEqualTo("Ryan Adams");
+        assertThat(first.gpa()).isEqualTo(3.0);
+        assertThat(first.creditsEarned()).isEqualTo(7.5);
+        assertThat(first.creditsRemaining()).isEqualTo(22.5);
+        assertThat(first.completionPercentage()).isEqualTo(25.0);
+        assertThat(first.plannedThisSemester()).isEqualTo(4);
+        assertThat(first.maxCoursesReached()).isFalse();
+        verify(studentRepo, times(1)).findProgressRow(1L);
+    }
+
+    @Test
+    void testUnknownStudent() {
+        when(studentRepo.findProgressRow(9L)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> progressService.get(9L))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Student not found");
+    }
+
+    @Test
+    void testEnrollmentsUpdateCachedSummaryOnlyOnCommit() {
+        // Arrange
+        when(studentRepo.findProgressRow(1L)).thenReturn(Optional.of(row(1L, 0.0, 0, 0, 4)));
+        progressService.get(1L);
+
+        // Act
+        completeTransaction(TransactionSynchronization.STATUS_ROLLED_BACK, Map.of(1L, 1));
+        StudentProgressDTO afterRollback = progressService.get(1L);
+        completeTransaction(TransactionSynchronization.STATUS_COMMITTED, Map.of(1L, 1, 2L, 3));
+        StudentProgressDTO afterCommit = progressService.get(1L);
+
+        // Assert
+        assertThat(afterRollback.plannedThisSemester()).isEqualTo(4);
+        assertThat(afterCommit.plannedThisSemester()).isEqualTo(5);
+        assertThat(afterCommit.maxCoursesReached()).isTrue();
+        verify(studentRepo, times(1)).findProgressRow(1L);
+    }
+
+    @Test
+    void testGradeLevelIsReadInOneQueryAndFillsTheCache() {
+        // Arrange
+        when(studentRepo.findProgressRowsByGradeLevel(9)).thenReturn(List.of(row(1L, 1.0, 1, 1, 0), row(2L, 0.0, 0, 1, 5)));
+
+        // Act
+        List<StudentProgressDTO> grade = progressService.forGradeLevel(9);
+        StudentProgressDTO second = progressService.get(2L);
+
+        // Assert
+        assertThat(grade).extracting(StudentProgressDTO::studentId).containsExactly(1L, 2L);
+        assertThat(second).isSameAs(grade.get(1));
+        assertThat(second.gpa()).isZero();
+        verify(studentRepo, times(0)).findProgressRow(2L);
+    }
+
+    @Test
+    void testSummaryLoadedDuringPendingWriteIsNotCached() {
+        // Arrange
+        when(studentRepo.findProgressRow(1L)).thenReturn(Optional.of(row(1L, 0.0, 0, 0, 1)));
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            progressService.recordEnrollments(Map.of(1L, 1));
+
+            // Act
+            progressService.get(1L);
+            progressService.get(1L);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        // Assert
+        verify(studentRepo, times(2)).findProgressRow(1L);
+    }
+
+    private void completeTransaction(int status, Map<Long, Integer> added) {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            progressService.recordEnrollments(added);
+            TransactionSynchronizationManager.getSynchronizations().forEach(s -> s.afterCompletion(status));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private static StudentProgressRow row(long id, double credits, long passed, long graded, long enrollments) {
+        return new StudentProgressRow(id, "Ryan", "Adams", "ryan.adams9@student.maplewood.edu", 9,
+                credits, passed, graded, enrollments);
+    }
+}
@@ -0,0 +1,106 @@
+package com.highschool.scheduler.service;
+
+import com.highschool.scheduler.dto.EnrolledSlot;
+import com.highschool.scheduler.model.CourseSection;
+import com.highschool.scheduler.model.Semester;
+import com.highschool.scheduler.repository.StudentSectionEnrollmentRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class StudentTimetableCacheTest {
+
+    private static final LocalDate MONDAY = LocalDate.of(2024, 9, 2);
+
+    private StudentSectionEnrollmentRepository enrollRepo;
+    private StudentTimetableCache cache;
+
+    @BeforeEach
+    void setup() {
+        enrollRepo = Mockito.mock(StudentSectionEnrollmentRepository.class);
+        cache = new StudentTimetableCache(enrollRepo, 2);
+        when(enrollRepo.findEnrolledSlots(1L, 1L)).thenReturn(List.of(
+                slot(1L, 10L, MONDAY, 9, 0, 10, 0, "Algebra I"),
+                slot(1L, 11L, MONDAY, 13, 30, 14, 30, "Choir")));
+    }
+
+    @Test
+    void testConflictsAreFoundFromCachedBitmap() {
+        // Act
+        List<EnrolledSlot> overlapping = cache.findConflicts(1L, section(9, 30, 10, 30, DayOfWeek.MONDAY), MONDAY);
+        List<EnrolledSlot> backToBack = cache.findConflicts(1L, section(10, 0, 11, 0, DayOfWeek.MONDAY), MONDAY);
+        List<EnrolledSlot> halfHourGap = cache.findConflicts(1L, section(12, 30, 13, 30, DayOfWeek.MONDAY), MONDAY);
+        List<EnrolledSlot> spansBoth = cache.findConflicts(1L, section(9, 0, 15, 0, DayOfWeek.MONDAY), MONDAY);
+        List<EnrolledSlot> otherDate = cache.findConflicts(1L, section(9, 0, 10, 0, DayOfWeek.MONDAY), MONDAY.plusWeeks(1));
+
+        // Assert
+        assertThat(overlapping).extracting(EnrolledSlot::courseName).containsExactly("Algebra I");
+        assertThat(backToBack).isEmpty();
+        assertThat(halfHourGap).isEmpty();
+        assertThat(spansBoth).extracting(EnrolledSlot::courseName).containsExactly("Algebra I", "Choir");
+        assertThat(otherDate).isEmpty();
+        verify(enrollRepo, times(1)).findEnrolledSlots(1L, 1L);
+    }
+
+    @Test
+    void testRecordedEnrollmentIsSeenWithoutReloading() {
+        cache.findConflicts(1L, section(15, 0, 16, 0, DayOfWeek.MONDAY), MONDAY);
+
+        cache.recordEnrollment(slot(1L, 12L, MONDAY, 15, 0, 16, 0, "Biology"));
+
+        assertThat(cache.findConflicts(1L, section(15, 0, 16, 0, DayOfWeek.MONDAY), MONDAY))
+                .extracting(EnrolledSlot::courseName).containsExactly("Biology");
+        verify(enrollRepo, times(1)).findEnrolledSlots(1L, 1L);
+    }
+
+    @Test
+    void testInvalidatedAndEvictedStudentsAreReloaded() {
+        // Arrange
+        CourseSection target = section(9, 0, 10, 0, DayOfWeek.MONDAY);
+        cache.findConflicts(1L, target, MONDAY);
+
+        // Act
+        cache.invalidate(List.of(1L));
+        cache.findConflicts(1L, target, MONDAY);
+        cache.findConflicts(2L, target, MONDAY);
+        cache.findConflicts(3L, target, MONDAY); // evicts student 1 (capacity 2)
+        cache.findConflicts(1L, target, MONDAY);
+
+        // Assert
+        verify(enrollRepo, times(3)).findEnrolledSlots(1L, 1L);
+    }
+
+    @Test
+    void testMaskRoundsOutwardsToHalfHours() {
+        assertThat(StudentTimetableCache.mask(LocalTime.of(9, 0), LocalTime.of(10, 0))).isEqualTo(0b11L << 18);
+        assertThat(StudentTimetableCache.mask(LocalTime.of(9, 10), LocalTime.of(9, 40))).isEqualTo(0b11L << 18);
+        assertThat(StudentTimetableCache.mask(LocalTime.of(9, 0), LocalTime.of(9, 0))).isZero();
+    }
+
+    private static CourseSection section(int startHour, int startMinute, int endHour, int endMinute, DayOfWeek day) {
+        Semester semester = new Semester();
+        semester.setId(1L);
+        CourseSection s = new CourseSection();
+        s.setSemester(semester);
+        s.setDayOfWeek(day);
+        s.setStartTime(LocalTime.of(startHour, startMinute));
+        s.setEndTime(LocalTime.of(endHour, endMinute));
+        return s;
+    }
+
+    private static EnrolledSlot slot(Long studentId, Long sectionId, LocalDate date,
+                                     int startHour, int startMinute, int endHour, int endMinute, String course) {
+        return new EnrolledSlot(studentId, sectionId, 1L, date, date.getDayOfWeek(),
+                LocalTime.of(startHour, startMinute), LocalTime.of(endHour, endMinute), course);
+    }
+}
@@ -1,11 +1,7 @@
 package com.highschool.scheduler.service;
 
+import com.highschool.scheduler.dto.ScheduledSectionRow;
 import com.highschool.scheduler.dto.UtilizationDTO;
-import com.highschool.scheduler.model.Classroom;
-import com.highschool.scheduler.model.Course;
-import com.highschool.scheduler.model.CourseSection;
-import com.highschool.scheduler.model.Semester;
-import com.highschool.scheduler.model.Teacher;
 import com.highschool.scheduler.repository.CourseSectionRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -29,48 +25,22 @@ class UtilizationServiceTest {
         service = new UtilizationService(sectionRepo);
     }
 
-    private CourseSection section(Long id, Long teacherId, Long roomId,
-                                  DayOfWeek day, int start, int end) {
-
-        Teacher t = new Teacher();
-        t.setId(teacherId);
-        t.setFirstName("T" + teacherId);
-        t.setLastName("L" + teacherId);
-
-        Classroom c = new Classroom();
-        c.setId(roomId);
-        c.setName("R" + roomId);
-
-        Course course = new Course();
-        course.setId(id);
-        course.setName("Course" + id);
-
-        Semester sem = new Semester();
-        sem.setId(1L);
-
-        CourseSection s = new CourseSection();
-        s.setId(id);
-        s.setTeacher(t);
-        s.setClassroom(c);
-        s.setCourse(course);
-        s.setSemester(sem);
-        s.setDayOfWeek(day);
-        s.setStartTime(LocalTime.of(start, 0));
-        s.setEndTime(LocalTime.of(end, 0));
-
-        return s;
+    private ScheduledSectionRow section(Long id, Long teacherId, Long roomId,
+                                        DayOfWeek day, int start, int end) {
+        return new ScheduledSectionRow(id, day, LocalTime.of(start, 0), LocalTime.of(end, 0),
+                "C" + id, "Course" + id, teacherId, "T" + teacherId, "L" + teacherId, roomId, "R" + roomId);
     }
 
     @Test
     void testUtilizationCalculation() {
         // Arrange
-        List<CourseSection> sections = List.of(
+        List<ScheduledSectionRow> sections = List.of(
                 section(1L, 10L, 100L, DayOfWeek.MONDAY, 9, 11), // 2 hours
                 section(2L, 10L, 100L, DayOfWeek.TUESDAY, 10, 11), // 1 hour
                 section(3L, 20L, 200L, DayOfWeek.MONDAY, 13, 15) // 2 hours
         );
 
-        when(sectionRepo.findAll()).thenReturn(sections);
+        when(sectionRepo.findScheduledSections()).thenReturn(sections);
 
         // Act
         UtilizationDTO result = service.calculate();
@@ -88,6 +58,7 @@ class UtilizationServiceTest {
                 .orElseThrow();
 
         assertThat(teacher10.used()).isEqualTo(3);
+        assertThat(teacher10.name()).isEqualTo("T10 L10");
 
         // Monday total hours = 4
         var monday = result.dayUsage().stream()
@@ -100,7 +71,7 @@ class UtilizationServiceTest {
 
     @Test
     void testEmptyResponse() {
-        when(sectionRepo.findAll()).thenReturn(List.of());
+        when(sectionRepo.findScheduledSections()).thenReturn(List.of());
 
         UtilizationDTO result = service.calculate();
 
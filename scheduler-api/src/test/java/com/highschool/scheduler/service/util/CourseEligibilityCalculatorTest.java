@@ -0,0 +1,123 @@
+package com.highschool.scheduler.service.util;
+
+import com.highschool.scheduler.model.Course;
+import com.highschool.scheduler.model.Student;
+import com.highschool.scheduler.model.StudentCourseHistory;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CourseEligibilityCalculatorTest {
+
+    private long nextHistoryId = 1;
+
+    @Test
+    void testCountsGradeRangePrerequisiteAndAlreadyPassed() {
+        // Arrange
+        Course algebra = course(1L, 9, 10, null);
+        Course geometry = course(2L, 10, 11, algebra);
+        Student ninth = student(1L, 9);
+        Student tenthPassedAlgebra = student(2L, 10);
+        Student tenthFailedAlgebra = student(3L, 10);
+        Student eleventhPassedBoth = student(4L, 11);
+        Student twelfthPassedAlgebra = student(5L, 12);
+        List<StudentCourseHistory> histories = List.of(
+                history(tenthPassedAlgebra, algebra, "passed"),
+                history(tenthFailedAlgebra, algebra, "failed"),
+                history(eleventhPassedBoth, algebra, "PASSED"),
+                history(eleventhPassedBoth, geometry, "Passed"),
+                history(twelfthPassedAlgebra, algebra, "passed"));
+
+        // Act
+        CourseEligibilityCalculator calculator = new CourseEligibilityCalculator(
+                List.of(twelfthPassedAlgebra, ninth, eleventhPassedBoth, tenthFailedAlgebra, tenthPassedAlgebra), histories);
+
+        // Assert
+        assertThat(calculator.eligibleStudentsCount(algebra)).isEqualTo(2); // ninth, tenthFailed
+        assertThat(calculator.eligibleStudentsCount(geometry)).isEqualTo(1); // tenthPassed
+    }
+
+    @Test
+    void testPrerequisiteNobodyPassedHasNoDemand() {
+        Course intro = course(1L, 9, 12, null);
+        Course advanced = course(2L, 9, 12, intro);
+
+        CourseEligibilityCalculator calculator = new CourseEligibilityCalculator(
+                List.of(student(1L, 9), student(2L, 10)), List.of());
+
+        assertThat(calculator.eligibleStudentsCount(intro)).isEqualTo(2);
+        assertThat(calculator.eligibleStudentsCount(advanced)).isZero();
+        assertThat(calculator.eligibleStudentsCount(course(3L, 11, 12, null))).isZero();
+    }
+
+    @Test
+    void testMatchesPerStudentScanAcrossWordBoundaries() {
+        // Arrange
+        SplittableRandom random = new SplittableRandom(11);
+        List<Course> courses = new ArrayList<>();
+        for (long id = 1; id <= 30; id++) {
+            int min = 9 + random.nextInt(4);
+            Course prerequisite = courses.isEmpty() || random.nextInt(3) == 0 ? null : courses.get(random.nextInt(courses.size()));
+            courses.add(course(id, min, min + random.nextInt(13 - min), prerequisite));
+        }
+        List<Student> students = new ArrayList<>();
+        List<StudentCourseHistory> histories = new ArrayList<>();
+        for (long id = 1; id <= 517; id++) {
+            Student s = student(id, 9 + random.nextInt(4));
+            students.add(s);
+            for (int i = 0; i < 6; i++) {
+                histories.add(history(s, courses.get(random.nextInt(courses.size())), random.nextInt(4) == 0 ? "failed" : "passed"));
+            }
+        }
+
+        // Act
+        CourseEligibilityCalculator calculator = new CourseEligibilityCalculator(students, histories);
+
+        // Assert
+        for (Course c : courses) {
+            long expected = students.stream()
+                    .filter(s -> s.getGradeLevel() >= c.getGradeLevelMin() && s.getGradeLevel() <= c.getGradeLevelMax())
+                    .filter(s -> c.getPrerequisite() == null || passed(histories, s, c.getPrerequisite()))
+                    .filter(s -> !passed(histories, s, c))
+                    .count();
+            assertThat(calculator.eligibleStudentsCount(c)).as(c.getCode()).isEqualTo((int) expected);
+        }
+    }
+
+    private static boolean passed(List<StudentCourseHistory> histories, Student s, Course c) {
+        return histories.stream().anyMatch(h -> h.getStudent() == s
+                && Objects.equals(h.getCourse().getId(), c.getId())
+                && "passed".equalsIgnoreCase(h.getStatus()));
+    }
+
+    private static Course course(long id, int gradeMin, int gradeMax, Course prerequisite) {
+        Course c = new Course();
+        c.setId(id);
+        c.setCode("C" + id);
+        c.setGradeLevelMin(gradeMin);
+        c.setGradeLevelMax(gradeMax);
+        c.setPrerequisite(prerequisite);
+        return c;
+    }
+
+    private static Student student(long id, int grade) {
+        Student s = new Student();
+        s.setId(id);
+        s.setGradeLevel(grade);
+        return s;
+    }
+
+    private StudentCourseHistory history(Student student, Course course, String status) {
+        StudentCourseHistory h = new StudentCourseHistory();
+        h.setId(nextHistoryId++);
+        h.setStudent(student);
+        h.setCourse(course);
+        h.setStatus(status);
+        return h;
+    }
+}
@@ -0,0 +1,88 @@
+package com.highschool.scheduler.service.util;
+
+import com.highschool.scheduler.model.Course;
+import com.highschool.scheduler.model.Semester;
+import com.highschool.scheduler.model.Teacher;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ScheduleScoreTest {
+
+    private final SlotGrid grid = SlotGrid.STANDARD;
+    private final PlacementRules rules = new PlacementRules(grid, 4);
+    private final Map<Long, List<Teacher>> teachersBySpec = Map.of(1L, List.of(teacher(1L), teacher(2L)));
+
+    private ScheduleDraft draft() {
+        return new ScheduleDraft(new Semester(), new ArrayList<>(), new TeacherLoadTracker(grid), new SlotLoadQueue(grid), Map.of());
+    }
+
+    private void place(ScheduleDraft draft, Long teacherId, Long roomId, int cell) {
+        rules.occupy(draft.load(), teacherId, roomId, cell, 1, true);
+        draft.slotLoad().add(cell, 1);
+    }
+
+    @Test
+    void testEvenlySpreadScheduleIsPerfect() {
+        // Arrange: one hour each, in different cells, for both teachers
+        ScheduleDraft draft = draft();
+        place(draft, 1L, 100L, 0);
+        place(draft, 2L, 101L, 1);
+
+        // Act
+        ScheduleScore score = ScheduleScore.of(draft, teachersBySpec);
+
+        // Assert
+        assertThat(score.unplacedHours()).isZero();
+        assertThat(score.slotVariance()).isZero();
+        assertThat(score.teacherLoadVariance()).isZero();
+        assertThat(score.isPerfect()).isTrue();
+    }
+
+    @Test
+    void testStackedLoadIsWorseThanSpreadLoad() {
+        // Arrange
+        ScheduleDraft spread = draft();
+        place(spread, 1L, 100L, 0);
+        place(spread, 2L, 101L, 1);
+        ScheduleDraft stacked = draft();
+        place(stacked, 1L, 100L, 0);
+        place(stacked, 1L, 101L, 1);
+        place(stacked, 2L, 102L, 1);
+
+        // Act
+        ScheduleScore spreadScore = ScheduleScore.of(spread, teachersBySpec);
+        ScheduleScore stackedScore = ScheduleScore.of(stacked, teachersBySpec);
+
+        // Assert
+        assertThat(stackedScore.isPerfect()).isFalse();
+        assertThat(stackedScore.slotVariance()).isPositive();
+        assertThat(stackedScore).isGreaterThan(spreadScore);
+    }
+
+    @Test
+    void testUnplacedHoursDominate() {
+        ScheduleDraft balancedButIncomplete = draft();
+        balancedButIncomplete.addUnplacedHours(new Course(), 1);
+        ScheduleDraft complete = draft();
+        place(complete, 1L, 100L, 0);
+        place(complete, 1L, 101L, 1);
+
+        ScheduleScore incomplete = ScheduleScore.of(balancedButIncomplete, teachersBySpec);
+        ScheduleScore placed = ScheduleScore.of(complete, teachersBySpec);
+
+        assertThat(incomplete.unplacedHours()).isEqualTo(1);
+        assertThat(placed.teacherLoadVariance()).isPositive();
+        assertThat(incomplete).isGreaterThan(placed);
+    }
+
+    private static Teacher teacher(Long id) {
+        Teacher t = new Teacher();
+        t.setId(id);
+        return t;
+    }
+}
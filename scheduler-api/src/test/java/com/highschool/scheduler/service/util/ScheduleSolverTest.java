@@ -0,0 +1,153 @@
+package com.highschool.scheduler.service.util;
+
+import com.highschool.scheduler.model.Classroom;
+import com.highschool.scheduler.model.Course;
+import com.highschool.scheduler.model.CourseSection;
+import com.highschool.scheduler.model.RoomType;
+import com.highschool.scheduler.model.Semester;
+import com.highschool.scheduler.model.Specialization;
+import com.highschool.scheduler.model.Teacher;
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ScheduleSolverTest {
+
+    private final SlotGrid grid = SlotGrid.STANDARD;
+    private final PlacementRules rules = new PlacementRules(grid, 4);
+
+    private final RoomType lab = roomType();
+    private final Specialization science = specialization(lab);
+    private final List<Teacher> teachers = List.of(teacher(1L), teacher(2L), teacher(3L));
+    private final List<Classroom> rooms = List.of(room(100L), room(101L), room(102L));
+
+    private ScheduleDraft emptyDraft() {
+        TeacherLoadTracker load = new TeacherLoadTracker(grid);
+        RoomUsageIndex pool = load.addRoomPool(rooms);
+        return new ScheduleDraft(new Semester(), new ArrayList<>(), load, new SlotLoadQueue(grid), Map.of(lab.getId(), pool));
+    }
+
+    private ScheduleSolver solver() {
+        return new ScheduleSolver(rules, ScheduleObjective.balanced(), Map.of(science.getId(), teachers));
+    }
+
+    @Test
+    void testPlacesUnplacedHours() {
+        // Arrange
+        ScheduleDraft draft = emptyDraft();
+        draft.addUnplacedHours(course(1L), 5);
+        draft.addUnplacedHours(course(2L), 4);
+
+        // Act
+        ScheduleSolver.Result result = solver().improve(draft, Duration.ofSeconds(5), 50_000, new SplittableRandom(3));
+
+        // Assert
+        assertThat(result.unplacedHours()).isZero();
+        assertThat(draft.unplacedHours()).isEmpty();
+        assertThat(draft.sections()).hasSize(9);
+        assertThat(result.finalCost()).isLessThan(result.initialCost());
+        assertNoClashes(draft);
+    }
+
+    @Test
+    void testSpreadsStackedSectionsAndKeepsTrackerConsistent() {
+        // Arrange: three sections all starting Monday 9:00
+        ScheduleDraft draft = emptyDraft();
+        for (int i = 0; i < 3; i++) {
+            CourseSection s = new CourseSection();
+            s.setCourse(course(10L + i));
+            s.setTeacher(teachers.get(i));
+            s.setClassroom(rooms.get(i));
+            s.setDayOfWeek(DayOfWeek.MONDAY);
+            s.setStartTime(LocalTime.of(9, 0));
+            s.setEndTime(LocalTime.of(10, 0));
+            rules.occupy(draft.load(), s.getTeacher().getId(), s.getClassroom().getId(), 0, 1, true);
+            draft.slotLoad().add(0, 1);
+            draft.sections().add(s);
+        }
+        ScheduleSolver solver = solver();
+
+        // Act
+        ScheduleSolver.Result result = solver.improve(draft, Duration.ofSeconds(5), 20_000, new SplittableRandom(5));
+
+        // Assert
+        assertThat(result.finalCost()).isLessThan(result.initialCost());
+        assertThat(solver.cost(draft)).isEqualTo(result.finalCost());
+        assertThat(draft.slotLoad().load(0)).isLessThan(3);
+        assertNoClashes(draft);
+        for (CourseSection s : draft.sections()) {
+            assertThat(draft.load().isTeacherBusy(s.getTeacher().getId(), s.getDayOfWeek(), s.getStartTime())).isTrue();
+            assertThat(draft.load().isRoomBusy(s.getClassroom().getId(), s.getDayOfWeek(), s.getStartTime())).isTrue();
+        }
+    }
+
+    @Test
+    void testZeroBudgetLeavesDraftUnchanged() {
+        ScheduleDraft draft = emptyDraft();
+        draft.addUnplacedHours(course(1L), 2);
+
+        ScheduleSolver.Result result = solver().improve(draft, Duration.ZERO, 1_000, new SplittableRandom(1));
+
+        assertThat(result.iterations()).isZero();
+        assertThat(result.finalCost()).isEqualTo(result.initialCost());
+        assertThat(draft.sections()).isEmpty();
+        assertThat(draft.totalUnplacedHours()).isEqualTo(2);
+    }
+
+    private void assertNoClashes(ScheduleDraft draft) {
+        Set<String> teacherHours = new HashSet<>();
+        Set<String> roomHours = new HashSet<>();
+        for (CourseSection s : draft.sections()) {
+            for (LocalTime t = s.getStartTime(); t.isBefore(s.getEndTime()); t = t.plusHours(1)) {
+                assertThat(teacherHours.add(s.getTeacher().getId() + "|" + s.getDayOfWeek() + "|" + t)).isTrue();
+                assertThat(roomHours.add(s.getClassroom().getId() + "|" + s.getDayOfWeek() + "|" + t)).isTrue();
+            }
+        }
+    }
+
+    private Course course(Long id) {
+        Course c = new Course();
+        c.setId(id);
+        c.setName("C" + id);
+        c.setSpecialization(science);
+        return c;
+    }
+
+    private static RoomType roomType() {
+        RoomType t = new RoomType();
+        t.setId(1L);
+        t.setName("Lab");
+        return t;
+    }
+
+    private static Specialization specialization(RoomType roomType) {
+        Specialization s = new Specialization();
+        s.setId(5L);
+        s.setName("Science");
+        s.setRoomType(roomType);
+        return s;
+    }
+
+    private static Teacher teacher(Long id) {
+        Teacher t = new Teacher();
+        t.setId(id);
+        return t;
+    }
+
+    private static Classroom room(Long id) {
+        Classroom c = new Classroom();
+        c.setId(id);
+        c.setName("R" + id);
+        return c;
+    }
+}
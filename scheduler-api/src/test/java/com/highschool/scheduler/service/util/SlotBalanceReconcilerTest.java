@@ -0,0 +1,116 @@
+package com.highschool.scheduler.service.util;
+
+import com.highschool.scheduler.model.Classroom;
+import com.highschool.scheduler.model.Course;
+import com.highschool.scheduler.model.CourseSection;
+import com.highschool.scheduler.model.Teacher;
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SlotBalanceReconcilerTest {
+
+    private final SlotGrid grid = SlotGrid.STANDARD;
+
+    private CourseSection section(Long id, Long teacherId, Long roomId, DayOfWeek day, int start, int hours) {
+        Teacher t = new Teacher();
+        t.setId(teacherId);
+        Classroom c = new Classroom();
+        c.setId(roomId);
+        Course course = new Course();
+        course.setId(id);
+
+        CourseSection s = new CourseSection();
+        s.setCourse(course);
+        s.setTeacher(t);
+        s.setClassroom(c);
+        s.setDayOfWeek(day);
+        s.setStartTime(LocalTime.of(start, 0));
+        s.setEndTime(LocalTime.of(start + hours, 0));
+        return s;
+    }
+
+    private SlotBalanceReconciler reconcilerFor(List<CourseSection> sections, TeacherLoadTracker load, SlotLoadQueue slotLoad) {
+        for (CourseSection s : sections) {
+            int hours = s.getEndTime().getHour() - s.getStartTime().getHour();
+            for (int h = 0; h < hours; h++) {
+                load.markPlaced(s.getTeacher().getId(), s.getClassroom().getId(), s.getDayOfWeek(), s.getStartTime().plusHours(h));
+            }
+            slotLoad.add(grid.bit(s.getDayOfWeek(), s.getStartTime()), hours);
+        }
+        return new SlotBalanceReconciler(load, slotLoad, new PlacementRules(grid, 4));
+    }
+
+    @Test
+    void testSpreadsCrowdedCellAcrossFreeCells() {
+        // Arrange: three different teachers all start Monday 9:00
+        List<CourseSection> sections = new ArrayList<>(List.of(
+                section(1L, 10L, 100L, DayOfWeek.MONDAY, 9, 1),
+                section(2L, 20L, 200L, DayOfWeek.MONDAY, 9, 1),
+                section(3L, 30L, 300L, DayOfWeek.MONDAY, 9, 1)
+        ));
+        TeacherLoadTracker load = new TeacherLoadTracker(grid);
+        SlotLoadQueue slotLoad = new SlotLoadQueue(grid);
+
+        // Act
+        int moves = reconcilerFor(sections, load, slotLoad).reconcile(sections);
+
+        // Assert
+        int mondayAtNine = grid.bit(DayOfWeek.MONDAY, LocalTime.of(9, 0));
+        assertThat(moves).isEqualTo(2);
+        assertThat(slotLoad.load(mondayAtNine)).isEqualTo(1);
+        for (CourseSection s : sections) {
+            assertThat(load.isTeacherBusy(s.getTeacher().getId(), s.getDayOfWeek(), s.getStartTime())).isTrue();
+        }
+    }
+
+    @Test
+    void testIsDeterministic() {
+        List<CourseSection> first = new ArrayList<>();
+        List<CourseSection> second = new ArrayList<>();
+        for (long i = 1; i <= 6; i++) {
+            first.add(section(i, i, 100 + i, DayOfWeek.TUESDAY, 13, 2));
+            second.add(section(i, i, 100 + i, DayOfWeek.TUESDAY, 13, 2));
+        }
+
+        reconcilerFor(first, new TeacherLoadTracker(grid), new SlotLoadQueue(grid)).reconcile(first);
+        reconcilerFor(second, new TeacherLoadTracker(grid), new SlotLoadQueue(grid)).reconcile(second);
+
+        for (int i = 0; i < first.size(); i++) {
+            assertThat(first.get(i).getDayOfWeek()).isEqualTo(second.get(i).getDayOfWeek());
+            assertThat(first.get(i).getStartTime()).isEqualTo(second.get(i).getStartTime());
+        }
+    }
+
+    @Test
+    void testKeepsSectionWhenTeacherHasNoOtherFreeSlot() {
+        // Arrange: the teacher is already at the daily maximum on every other day
+        TeacherLoadTracker load = new TeacherLoadTracker(grid);
+        for (DayOfWeek day : grid.days()) {
+            if (day == DayOfWeek.MONDAY) continue;
+            for (int hour : new int[]{9, 10, 13, 14}) {
+                load.markPlaced(10L, 999L, day, LocalTime.of(hour, 0));
+            }
+        }
+        for (int hour : new int[]{10, 14, 15, 16}) {
+            load.markPlaced(10L, 999L, DayOfWeek.MONDAY, LocalTime.of(hour, 0));
+        }
+        List<CourseSection> sections = new ArrayList<>(List.of(
+                section(1L, 10L, 100L, DayOfWeek.MONDAY, 9, 1),
+                section(2L, 20L, 200L, DayOfWeek.MONDAY, 9, 1)
+        ));
+
+        // Act
+        reconcilerFor(sections, load, new SlotLoadQueue(grid)).reconcile(sections);
+
+        // Assert: only the unconstrained teacher's section was moved
+        assertThat(sections.get(0).getDayOfWeek()).isEqualTo(DayOfWeek.MONDAY);
+        assertThat(sections.get(0).getStartTime()).isEqualTo(LocalTime.of(9, 0));
+        assertThat(sections.get(1).getStartTime()).isNotEqualTo(LocalTime.of(9, 0));
+    }
+}
@@ -0,0 +1,61 @@
+package com.highschool.scheduler.service.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SlotLoadQueueTest {
+
+    private final SlotGrid grid = SlotGrid.STANDARD;
+
+    @Test
+    void testAllCellsStartAtMinimumLoad() {
+        SlotLoadQueue queue = new SlotLoadQueue(grid);
+
+        int[] cells = new int[grid.size()];
+        int n = queue.shuffledMinLoadCells(cells, new SplittableRandom(1));
+
+        assertThat(queue.minLoad()).isZero();
+        assertThat(n).isEqualTo(grid.size());
+        assertThat(Arrays.stream(cells, 0, n).sorted().toArray())
+                .containsExactly(IntStream.range(0, grid.size()).toArray());
+    }
+
+    @Test
+    void testMinimumMovesUpOnceEveryCellIsUsed() {
+        // Arrange
+        SlotLoadQueue queue = new SlotLoadQueue(grid);
+        for (int bit = 0; bit < grid.size(); bit++) {
+            queue.add(bit, bit == 3 ? 1 : 2);
+        }
+
+        // Assert
+        assertThat(queue.minLoad()).isEqualTo(1);
+        assertThat(queue.minLoadCells()).isEqualTo(1L << 3);
+        assertThat(queue.load(3)).isEqualTo(1);
+        assertThat(queue.load(4)).isEqualTo(2);
+
+        queue.add(3, 1);
+        assertThat(queue.minLoad()).isEqualTo(2);
+        assertThat(Long.bitCount(queue.minLoadCells())).isEqualTo(grid.size());
+    }
+
+    @Test
+    void testTieBreakOrderIsReproducibleForSameSeed() {
+        SlotLoadQueue queue = new SlotLoadQueue(grid);
+        queue.add(0, 1);
+
+        int[] first = new int[grid.size()];
+        int[] second = new int[grid.size()];
+        int n1 = queue.shuffledMinLoadCells(first, new SplittableRandom(7));
+        int n2 = queue.shuffledMinLoadCells(second, new SplittableRandom(7));
+
+        assertThat(n1).isEqualTo(grid.size() - 1).isEqualTo(n2);
+        assertThat(first).containsExactly(second);
+        assertThat(Arrays.stream(first, 0, n1)).doesNotContain(0);
+    }
+}
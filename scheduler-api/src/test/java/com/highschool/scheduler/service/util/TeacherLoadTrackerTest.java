@@ -0,0 +1,178 @@
+package com.highschool.scheduler.service.util;
+
+import com.highschool.scheduler.model.Classroom;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TeacherLoadTrackerTest {
+
+    private TeacherLoadTracker load;
+
+    @BeforeEach
+    void setup() {
+        load = new TeacherLoadTracker();
+    }
+
+    @Test
+    void testMarkPlacedOccupiesTeacherAndRoom() {
+        // Act
+        load.markPlaced(1L, 100L, DayOfWeek.MONDAY, LocalTime.of(9, 0));
+
+        // Assert
+        assertThat(load.isTeacherBusy(1L, DayOfWeek.MONDAY, LocalTime.of(9, 0))).isTrue();
+        assertThat(load.isRoomBusy(100L, DayOfWeek.MONDAY, LocalTime.of(9, 0))).isTrue();
+        assertThat(load.isTeacherBusy(1L, DayOfWeek.MONDAY, LocalTime.of(10, 0))).isFalse();
+        assertThat(load.isTeacherBusy(1L, DayOfWeek.TUESDAY, LocalTime.of(9, 0))).isFalse();
+        assertThat(load.isTeacherBusy(2L, DayOfWeek.MONDAY, LocalTime.of(9, 0))).isFalse();
+        assertThat(load.isRoomBusy(200L, DayOfWeek.MONDAY, LocalTime.of(9, 0))).isFalse();
+    }
+
+    @Test
+    void testDailyAndWeeklyHours() {
+        // Arrange
+        load.markPlaced(1L, 100L, DayOfWeek.MONDAY, LocalTime.of(9, 0));
+        load.markPlaced(1L, 100L, DayOfWeek.MONDAY, LocalTime.of(10, 0));
+        load.markPlaced(1L, 101L, DayOfWeek.FRIDAY, LocalTime.of(16, 0));
+        load.markPlaced(2L, 102L, DayOfWeek.MONDAY, LocalTime.of(9, 0));
+
+        // Assert
+        assertThat(load.teacherDailyHours(1L, DayOfWeek.MONDAY)).isEqualTo(2);
+        assertThat(load.teacherDailyHours(1L, DayOfWeek.FRIDAY)).isEqualTo(1);
+        assertThat(load.teacherDailyHours(1L, DayOfWeek.TUESDAY)).isZero();
+        assertThat(load.weeklyHours(1L)).isEqualTo(3);
+        assertThat(load.weeklyHours(2L)).isEqualTo(1);
+        assertThat(load.weeklyHours(3L)).isZero();
+    }
+
+    @Test
+    void testTracksManyResources() {
+        for (long id = 1; id <= 500; id++) {
+            load.markPlaced(id, id + 1000, DayOfWeek.WEDNESDAY, LocalTime.of(13, 0));
+        }
+
+        assertThat(load.weeklyHours(500L)).isEqualTo(1);
+        assertThat(load.isRoomBusy(1500L, DayOfWeek.WEDNESDAY, LocalTime.of(13, 0))).isTrue();
+    }
+
+    @Test
+    void testSlotsOutsideGridAreNeverBusy() {
+        assertThat(load.isTeacherBusy(1L, DayOfWeek.SATURDAY, LocalTime.of(9, 0))).isFalse();
+        assertThat(load.isRoomBusy(100L, DayOfWeek.MONDAY, LocalTime.of(12, 0))).isFalse();
+
+        assertThatThrownBy(() -> load.markPlaced(1L, 100L, DayOfWeek.MONDAY, LocalTime.of(12, 0)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("outside the schedule grid");
+    }
+
+    @Test
+    void testConsecutiveHoursRule() {
+        // Arrange
+        load.markPlaced(1L, 100L, DayOfWeek.MONDAY, LocalTime.of(9, 0));
+        load.markPlaced(1L, 100L, DayOfWeek.MONDAY, LocalTime.of(10, 0));
+
+        // Assert
+        assertThat(load.wouldExceedConsecutiveHours(1L, DayOfWeek.MONDAY, LocalTime.of(11, 0), 1)).isTrue();
+        assertThat(load.wouldExceedConsecutiveHours(1L, DayOfWeek.MONDAY, LocalTime.of(13, 0), 1)).isFalse();
+        assertThat(load.wouldExceedConsecutiveHours(1L, DayOfWeek.TUESDAY, LocalTime.of(9, 0), 2)).isFalse();
+    }
+
+    @Test
+    void testRoomPoolPicksLeastUsedFreeRoom() {
+        // Arrange
+        RoomUsageIndex pool = load.addRoomPool(List.of(room(100L), room(101L), room(102L)));
+        load.markPlaced(1L, 100L, DayOfWeek.MONDAY, LocalTime.of(9, 0));
+        load.markPlaced(1L, 100L, DayOfWeek.MONDAY, LocalTime.of(10, 0));
+        load.markPlaced(2L, 101L, DayOfWeek.MONDAY, LocalTime.of(9, 0));
+        load.markPlaced(3L, 102L, DayOfWeek.TUESDAY, LocalTime.of(9, 0));
+        int mondayAtNine = load.grid().bit(DayOfWeek.MONDAY, LocalTime.of(9, 0));
+        int mondayAtTen = load.grid().bit(DayOfWeek.MONDAY, LocalTime.of(10, 0));
+        SplittableRandom random = new SplittableRandom(1);
+
+        // Assert
+        assertThat(load.roomUsage(100L)).isEqualTo(2);
+        assertThat(load.roomUsage(101L)).isEqualTo(1);
+        assertThat(pool.pickLeastUsedFree(mondayAtNine, random).getId()).isEqualTo(102L);
+        for (int i = 0; i < 20; i++) {
+            assertThat(pool.pickLeastUsedFree(mondayAtTen, random).getId()).isIn(101L, 102L);
+        }
+    }
+
+    @Test
+    void testRoomPoolReturnsNullWhenAllRoomsBusy() {
+        RoomUsageIndex pool = load.addRoomPool(List.of(room(100L), room(101L)));
+        load.markPlaced(1L, 100L, DayOfWeek.MONDAY, LocalTime.of(9, 0));
+        load.markPlaced(2L, 101L, DayOfWeek.MONDAY, LocalTime.of(9, 0));
+
+        int mondayAtNine = load.grid().bit(DayOfWeek.MONDAY, LocalTime.of(9, 0));
+        assertThat(pool.pickLeastUsedFree(mondayAtNine, new SplittableRandom(1))).isNull();
+    }
+
+    @Test
+    void testConsecutiveHoursMatchesSortedHoursReference() {
+        Random random = new Random(42);
+        SlotGrid grid = SlotGrid.STANDARD;
+
+        for (int trial = 0; trial < 5_000; trial++) {
+            // Arrange: random occupancy for one teacher on one day
+            TeacherLoadTracker tracker = new TeacherLoadTracker(grid);
+            Set<LocalTime> occupied = new HashSet<>();
+            for (LocalTime slot : grid.slots()) {
+                if (random.nextInt(3) == 0) {
+                    tracker.markPlaced(7L, 70L, DayOfWeek.THURSDAY, slot);
+                    occupied.add(slot);
+                }
+            }
+            LocalTime start = LocalTime.of(random.nextInt(24), 0);
+            int duration = random.nextInt(5);
+
+            // Act
+            boolean actual = tracker.wouldExceedConsecutiveHours(7L, DayOfWeek.THURSDAY, start, duration);
+
+            // Assert
+            assertThat(actual)
+                    .as("occupied=%s start=%s duration=%d", occupied, start, duration)
+                    .isEqualTo(referenceWouldExceed(occupied, start, duration));
+        }
+    }
+
+    private static Classroom room(Long id) {
+        Classroom c = new Classroom();
+        c.setId(id);
+        c.setName("R" + id);
+        return c;
+    }
+
+    /**
+     * The original list-and-sort implementation of the consecutive-hours rule.
+     */
+    private static boolean referenceWouldExceed(Set<LocalTime> occupied, LocalTime proposedStart, int duration) {
+        List<Integer> hours = new ArrayList<>();
+        occupied.forEach(t -> hours.add(t.getHour()));
+        for (int i = 0; i < duration; i++) hours.add(proposedStart.plusHours(i).getHour());
+        Collections.sort(hours);
+
+        int maxConsecutive = 1, current = 1;
+        for (int i = 1; i < hours.size(); i++) {
+            if (hours.get(i) == hours.get(i - 1) + 1) {
+                current++;
+                maxConsecutive = Math.max(maxConsecutive, current);
+            } else {
+                current = 1;
+            }
+        }
+        return maxConsecutive > 2;
+    }
+}
@@ -0,0 +1,56 @@
+package com.highschool.scheduler.bench;
+
+import com.highschool.scheduler.model.Course;
+import com.highschool.scheduler.service.util.CourseEligibilityCalculator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link CourseEligibilityCalculator#eligibleStudentsCount} for one course, cycling through every
+ * course of the school, plus building the calculator from the raw student and history lists.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EligibilityBenchmark {
+
+    @Param({"SMALL", "DISTRICT", "STATE"})
+    public SchoolSize size;
+
+    private SyntheticSchool school;
+    private List<Course> courses;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        school = new SyntheticSchool(size, 42L);
+        courses = school.courses;
+    }
+
+    @Benchmark
+    public int eligibleStudentsCount() {
+        next = (next + 1) % courses.size();
+        return school.eligibility.eligibleStudentsCount(courses.get(next));
+    }
+
+    @Benchmark
+    public CourseEligibilityCalculator buildCalculator() {
+        return new CourseEligibilityCalculator(school.students, school.histories);
+    }
+}
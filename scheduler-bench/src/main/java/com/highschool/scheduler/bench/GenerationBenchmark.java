@@ -0,0 +1,53 @@
+package com.highschool.scheduler.bench;
+
+import com.highschool.scheduler.dto.GeneratedSchedule;
+import com.highschool.scheduler.dto.GenerationOptions;
+import com.highschool.scheduler.service.ScheduleGeneratorService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * End-to-end greedy generation through {@link ScheduleGeneratorService}, sequential and
+ * partitioned by room type, with a fixed seed so every invocation does the same work.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GenerationBenchmark {
+
+    @Param({"SMALL", "DISTRICT", "STATE"})
+    public SchoolSize size;
+
+    @Param({"false", "true"})
+    public boolean parallel;
+
+    private ScheduleGeneratorService service;
+    private GenerationOptions options;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        service = new SyntheticSchool(size, 42L).generatorService();
+        options = new GenerationOptions(parallel, 1, Duration.ZERO, 42L);
+    }
+
+    @Benchmark
+    public GeneratedSchedule generate() {
+        return service.generateForActiveSemester(options);
+    }
+}
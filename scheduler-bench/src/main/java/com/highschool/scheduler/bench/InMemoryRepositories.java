@@ -0,0 +1,41 @@
+package com.highschool.scheduler.bench;
+
+import java.lang.reflect.Proxy;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Builds Spring Data repository stand-ins that answer a fixed set of methods from memory,
+ * so services can be benchmarked without a database or an application context.
+ */
+final class InMemoryRepositories {
+
+    private InMemoryRepositories() {
+    }
+
+    /**
+     * @param repository the repository interface
+     * @param answers    implementations by method name; any other method throws
+     * @return a proxy implementing {@code repository}
+     */
+    static <T> T stub(Class<T> repository, Map<String, Function<Object[], Object>> answers) {
+        Object proxy = Proxy.newProxyInstance(repository.getClassLoader(), new Class<?>[]{repository},
+                (self, method, args) -> {
+                    switch (method.getName()) {
+                        case "toString":
+                            return repository.getSimpleName() + "(in memory)";
+                        case "hashCode":
+                            return System.identityHashCode(self);
+                        case "equals":
+                            return self == args[0];
+                        default:
+                            Function<Object[], Object> answer = answers.get(method.getName());
+                            if (answer == null) {
+                                throw new UnsupportedOperationException(repository.getSimpleName() + "." + method.getName());
+                            }
+                            return answer.apply(args);
+                    }
+                });
+        return repository.cast(proxy);
+    }
+}
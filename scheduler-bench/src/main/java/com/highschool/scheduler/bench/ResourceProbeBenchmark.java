@@ -0,0 +1,120 @@
+package com.highschool.scheduler.bench;
+
+import com.highschool.scheduler.dto.GenerationOptions;
+import com.highschool.scheduler.model.Classroom;
+import com.highschool.scheduler.model.CourseSection;
+import com.highschool.scheduler.model.Teacher;
+import com.highschool.scheduler.service.util.RoomUsageIndex;
+import com.highschool.scheduler.service.util.SchedulerUtils;
+import com.highschool.scheduler.service.util.SlotGrid;
+import com.highschool.scheduler.service.util.TeacherLoadTracker;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * The per-candidate probes generation makes: {@link TeacherLoadTracker} occupancy and
+ * hour-rule checks, and least-used room selection, against the occupancy of a fully
+ * generated schedule. Probes cycle through a fixed table of random teachers and cells.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ResourceProbeBenchmark {
+    private static final int PROBES = 1 << 10;
+    private static final SlotGrid GRID = SlotGrid.STANDARD;
+
+    @Param({"SMALL", "DISTRICT", "STATE"})
+    public SchoolSize size;
+
+    private TeacherLoadTracker load;
+    private final Long[] teacherIds = new Long[PROBES];
+    private final DayOfWeek[] days = new DayOfWeek[PROBES];
+    private final LocalTime[] slots = new LocalTime[PROBES];
+    private final int[] cells = new int[PROBES];
+    private List<Classroom> largestRoomType;
+    private RoomUsageIndex largestRoomPool;
+    private final SplittableRandom random = new SplittableRandom(7L);
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        SyntheticSchool school = new SyntheticSchool(size, 42L);
+        school.generatorService().generateForActiveSemester(new GenerationOptions(false, 1, Duration.ZERO, 42L));
+
+        load = new TeacherLoadTracker(GRID);
+        Map<Long, List<Classroom>> roomsByType = school.rooms.stream()
+                .collect(Collectors.groupingBy(r -> r.getRoomType().getId()));
+        largestRoomType = roomsByType.values().stream().max((a, b) -> a.size() - b.size()).orElseThrow();
+        for (List<Classroom> pool : roomsByType.values()) {
+            RoomUsageIndex index = load.addRoomPool(pool);
+            if (pool == largestRoomType) largestRoomPool = index;
+        }
+        for (CourseSection s : school.sections()) {
+            for (LocalTime t = s.getStartTime(); t.isBefore(s.getEndTime()); t = t.plusHours(1)) {
+                load.markPlaced(s.getTeacher().getId(), s.getClassroom().getId(), s.getDayOfWeek(), t);
+            }
+        }
+
+        List<Teacher> teachers = school.teachers;
+        for (int i = 0; i < PROBES; i++) {
+            teacherIds[i] = teachers.get(random.nextInt(teachers.size())).getId();
+            cells[i] = random.nextInt(GRID.size());
+            days[i] = GRID.day(GRID.dayOfBit(cells[i]));
+            slots[i] = GRID.slot(GRID.slotOfBit(cells[i]));
+        }
+    }
+
+    private int nextProbe() {
+        return next = (next + 1) & (PROBES - 1);
+    }
+
+    @Benchmark
+    public boolean isTeacherBusy() {
+        int i = nextProbe();
+        return load.isTeacherBusy(teacherIds[i], days[i], slots[i]);
+    }
+
+    @Benchmark
+    public int teacherDailyHours() {
+        int i = nextProbe();
+        return load.teacherDailyHours(teacherIds[i], days[i]);
+    }
+
+    @Benchmark
+    public boolean wouldExceedConsecutiveHours() {
+        int i = nextProbe();
+        return load.wouldExceedConsecutiveHours(teacherIds[i], days[i], slots[i], 2);
+    }
+
+    @Benchmark
+    public Classroom pickLeastUsedRoom() {
+        return SchedulerUtils.pickLeastUsedRoom(load, largestRoomType, random);
+    }
+
+    @Benchmark
+    public Classroom pickLeastUsedFreeRoom() {
+        return largestRoomPool.pickLeastUsedFree(cells[nextProbe()], random);
+    }
+}
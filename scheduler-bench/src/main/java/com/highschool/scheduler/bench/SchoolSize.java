@@ -0,0 +1,23 @@
+package com.highschool.scheduler.bench;
+
+/**
+ * Sizes of synthetic school used by the benchmarks.
+ * Teachers and rooms are derived from course demand, so every size stays schedulable.
+ */
+public enum SchoolSize {
+    SMALL(400, 60, 8, 4),
+    DISTRICT(3_000, 300, 12, 6),
+    STATE(12_000, 1_200, 16, 8);
+
+    final int students;
+    final int courses;
+    final int specializations;
+    final int roomTypes;
+
+    SchoolSize(int students, int courses, int specializations, int roomTypes) {
+        this.students = students;
+        this.courses = courses;
+        this.specializations = specializations;
+        this.roomTypes = roomTypes;
+    }
+}
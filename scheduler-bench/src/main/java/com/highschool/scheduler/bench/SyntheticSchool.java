@@ -0,0 +1,238 @@
+package com.highschool.scheduler.bench;
+
+import com.highschool.scheduler.dto.ScheduledSectionRow;
+import com.highschool.scheduler.model.Classroom;
+import com.highschool.scheduler.model.Course;
+import com.highschool.scheduler.model.CourseSection;
+import com.highschool.scheduler.model.RoomType;
+import com.highschool.scheduler.model.Semester;
+import com.highschool.scheduler.model.Specialization;
+import com.highschool.scheduler.model.Student;
+import com.highschool.scheduler.model.StudentCourseHistory;
+import com.highschool.scheduler.model.Teacher;
+import com.highschool.scheduler.repository.ClassroomRepository;
+import com.highschool.scheduler.repository.CourseRepository;
+import com.highschool.scheduler.repository.CourseSectionRepository;
+import com.highschool.scheduler.repository.RoomTypeRepository;
+import com.highschool.scheduler.repository.SemesterRepository;
+import com.highschool.scheduler.repository.StudentCourseHistoryRepository;
+import com.highschool.scheduler.repository.StudentRepository;
+import com.highschool.scheduler.repository.StudentSectionEnrollmentRepository;
+import com.highschool.scheduler.repository.TeacherRepository;
+import com.highschool.scheduler.service.ActiveSemesterContext;
+import com.highschool.scheduler.service.ReferenceDataCache;
+import com.highschool.scheduler.service.ScheduleGeneratorService;
+import com.highschool.scheduler.service.UtilizationService;
+import com.highschool.scheduler.service.util.CourseEligibilityCalculator;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * A deterministic, in-memory school of a given {@link SchoolSize}: rooms, specializations,
+ * courses with grade ranges and prerequisites, students with passed-course histories,
+ * and enough teachers and rooms per specialization to cover the resulting course hours.
+ */
+final class SyntheticSchool {
+    private static final int FIRST_GRADE = 9;
+    private static final int GRADES = 4;
+    private static final int ROOM_CAPACITY = 10;
+    private static final int TEACHER_HOURS_PER_WEEK = 12;
+    private static final int ROOM_HOURS_PER_WEEK = 20;
+
+    final Semester semester;
+    final List<Course> courses = new ArrayList<>();
+    final List<Teacher> teachers = new ArrayList<>();
+    final List<Classroom> rooms = new ArrayList<>();
+    final List<Student> students = new ArrayList<>();
+    final List<StudentCourseHistory> histories = new ArrayList<>();
+    final CourseEligibilityCalculator eligibility;
+    private final List<CourseSection> savedSections = new ArrayList<>();
+
+    SyntheticSchool(SchoolSize size, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+
+        semester = new Semester();
+        semester.setId(1L);
+        semester.setName("Fall");
+        semester.setOrderInYear(1);
+        semester.setActive(true);
+        semester.setStartDate(LocalDate.of(2024, 9, 2));
+        semester.setEndDate(LocalDate.of(2024, 12, 20));
+
+        List<RoomType> roomTypes = new ArrayList<>();
+        for (long t = 1; t <= size.roomTypes; t++) {
+            RoomType type = new RoomType();
+            type.setId(t);
+            type.setName("Type " + t);
+            roomTypes.add(type);
+        }
+        List<Specialization> specializations = new ArrayList<>();
+        for (long s = 1; s <= size.specializations; s++) {
+            Specialization spec = new Specialization();
+            spec.setId(s);
+            spec.setName("Spec " + s);
+            spec.setRoomType(roomTypes.get((int) (s - 1) % roomTypes.size()));
+            specializations.add(spec);
+        }
+
+        for (long c = 1; c <= size.courses; c++) {
+            int grade = FIRST_GRADE + random.nextInt(GRADES);
+            Course course = new Course();
+            course.setId(c);
+            course.setCode("C" + c);
+            course.setName("Course " + c);
+            course.setSemesterOrder(1);
+            course.setGradeLevelMin(grade);
+            course.setGradeLevelMax(grade);
+            course.setSpecialization(specializations.get(random.nextInt(specializations.size())));
+            if (!courses.isEmpty() && random.nextInt(10) < 7) {
+                course.setPrerequisite(courses.get(random.nextInt(courses.size())));
+            }
+            courses.add(course);
+        }
+
+        for (long s = 1; s <= size.students; s++) {
+            Student student = new Student();
+            student.setId(s);
+            student.setFirstName("S");
+            student.setLastName(Long.toString(s));
+            student.setGradeLevel(FIRST_GRADE + random.nextInt(GRADES));
+            students.add(student);
+
+            int pastCourses = (student.getGradeLevel() - FIRST_GRADE) * 6;
+            for (int h = 0; h < pastCourses; h++) {
+                StudentCourseHistory history = new StudentCourseHistory();
+                history.setId((long) histories.size() + 1);
+                history.setStudent(student);
+                history.setCourse(courses.get(random.nextInt(courses.size())));
+                history.setSemester(semester);
+                history.setStatus(random.nextInt(10) < 9 ? "passed" : "failed");
+                histories.add(history);
+            }
+        }
+
+        eligibility = new CourseEligibilityCalculator(students, histories);
+
+        // Size every course to its demand, then staff and house the hours it needs
+        int weeks = (int) Math.ceil(ChronoUnit.DAYS.between(
+                semester.getStartDate(), semester.getEndDate()) / 7.0);
+        Map<Specialization, Integer> hoursBySpec = new HashMap<>();
+        Map<RoomType, Integer> hoursByType = new HashMap<>();
+        for (Course course : courses) {
+            int needed = (int) Math.ceil((double) eligibility.eligibleStudentsCount(course) / (ROOM_CAPACITY * weeks));
+            course.setHoursPerWeek(Math.max(needed, 2 + random.nextInt(3)));
+            hoursBySpec.merge(course.getSpecialization(), course.getHoursPerWeek(), Integer::sum);
+            hoursByType.merge(course.getSpecialization().getRoomType(), course.getHoursPerWeek(), Integer::sum);
+        }
+        for (Specialization spec : specializations) {
+            int count = hoursBySpec.getOrDefault(spec, 0) / TEACHER_HOURS_PER_WEEK + 1;
+            for (int i = 0; i < count; i++) {
+                Teacher teacher = new Teacher();
+                teacher.setId((long) teachers.size() + 1);
+                teacher.setFirstName("T");
+                teacher.setLastName(Long.toString(teacher.getId()));
+                teacher.setSpecialization(spec);
+                teachers.add(teacher);
+            }
+        }
+        for (RoomType type : roomTypes) {
+            int count = hoursByType.getOrDefault(type, 0) / ROOM_HOURS_PER_WEEK + 1;
+            for (int i = 0; i < count; i++) {
+                Classroom room = new Classroom();
+                room.setId((long) rooms.size() + 1);
+                room.setName("R" + room.getId());
+                room.setCapacity(ROOM_CAPACITY);
+                room.setRoomType(type);
+                rooms.add(room);
+            }
+        }
+    }
+
+    /**
+     * @return a generator service reading this school from memory and keeping the sections it saves
+     */
+    ScheduleGeneratorService generatorService() {
+        CourseSectionRepository sectionRepository = sectionRepository();
+        ReferenceDataCache referenceData = new ReferenceDataCache(
+                InMemoryRepositories.stub(CourseRepository.class, Map.of("findAll", args -> courses)),
+                InMemoryRepositories.stub(TeacherRepository.class, Map.of("findAll", args -> teachers)),
+                InMemoryRepositories.stub(ClassroomRepository.class, Map.of("findAll", args -> rooms)),
+                InMemoryRepositories.stub(RoomTypeRepository.class, Map.of("findAll", args -> List.of())),
+                InMemoryRepositories.stub(SemesterRepository.class, Map.of("findAll", args -> List.of(semester))));
+        return new ScheduleGeneratorService(
+                referenceData,
+                new ActiveSemesterContext(referenceData),
+                sectionRepository,
+                InMemoryRepositories.stub(StudentRepository.class, Map.of("findAll", args -> students)),
+                InMemoryRepositories.stub(StudentCourseHistoryRepository.class, Map.of("findAll", args -> histories)),
+                InMemoryRepositories.stub(StudentSectionEnrollmentRepository.class, Map.of()),
+                new TransactionTemplate(new NoOpTransactionManager()),
+                event -> { });
+    }
+
+    /**
+     * @return a utilization service over the sections most recently saved by {@link #generatorService()}
+     */
+    UtilizationService utilizationService() {
+        return new UtilizationService(sectionRepository());
+    }
+
+    List<CourseSection> sections() {
+        return savedSections;
+    }
+
+    @SuppressWarnings("unchecked")
+    private CourseSectionRepository sectionRepository() {
+        return InMemoryRepositories.stub(CourseSectionRepository.class, Map.of(
+                "deleteAllBySemesterId", args -> {
+                    savedSections.clear();
+                    return null;
+                },
+                "insertAll", args -> {
+                    long id = 1;
+                    for (CourseSection section : (Iterable<CourseSection>) args[0]) {
+                        section.setId(id++);
+                        savedSections.add(section);
+                    }
+                    return List.copyOf(savedSections);
+                },
+                "findScheduledSections", args -> savedSections.stream()
+                        .map(s -> new ScheduledSectionRow(s.getId(), s.getDayOfWeek(), s.getStartTime(), s.getEndTime(),
+                                s.getCourse().getCode(), s.getCourse().getName(),
+                                s.getTeacher().getId(), s.getTeacher().getFirstName(), s.getTeacher().getLastName(),
+                                s.getClassroom().getId(), s.getClassroom().getName()))
+                        .toList()));
+    }
+
+    /**
+     * Transaction manager for code that only needs a transaction boundary, not a database.
+     */
+    private static final class NoOpTransactionManager extends AbstractPlatformTransactionManager {
+        @Override
+        protected Object doGetTransaction() {
+            return new Object();
+        }
+
+        @Override
+        protected void doBegin(Object transaction, TransactionDefinition definition) {
+        }
+
+        @Override
+        protected void doCommit(DefaultTransactionStatus status) {
+        }
+
+        @Override
+        protected void doRollback(DefaultTransactionStatus status) {
+        }
+    }
+}
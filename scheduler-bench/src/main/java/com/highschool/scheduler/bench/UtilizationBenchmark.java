@@ -0,0 +1,49 @@
+package com.highschool.scheduler.bench;
+
+import com.highschool.scheduler.dto.GenerationOptions;
+import com.highschool.scheduler.dto.UtilizationDTO;
+import com.highschool.scheduler.service.UtilizationService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link UtilizationService#calculate()} over a fully generated schedule.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UtilizationBenchmark {
+
+    @Param({"SMALL", "DISTRICT", "STATE"})
+    public SchoolSize size;
+
+    private UtilizationService service;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        SyntheticSchool school = new SyntheticSchool(size, 42L);
+        school.generatorService().generateForActiveSemester(new GenerationOptions(false, 1, Duration.ZERO, 42L));
+        service = school.utilizationService();
+    }
+
+    @Benchmark
+    public UtilizationDTO calculate() {
+        return service.calculate();
+    }
+}